@@ -0,0 +1,71 @@
+package org.example.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.system.SystemFunction;
+import org.example.util.CsvExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Сквозная пропускная способность экспорта, в строках в секунду.
+// Аллокации и работа GC: -Djmh.args="CsvExporterBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExporterBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    // Отрицательная ветвь (ряды для sin), положительная (ln) и весь диапазон
+    @Param({"-100.0:0.0", "0.001:100.0", "-50.0:50.0"})
+    public String range;
+
+    @Param({"1e-6"})
+    public double precision;
+
+    private SystemFunction function;
+    private CsvExporter exporter;
+    private double start;
+    private double end;
+    private double step;
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] bounds = range.split(":");
+        start = Double.parseDouble(bounds[0]);
+        end = Double.parseDouble(bounds[1]);
+        step = (end - start) / (ROWS - 1);
+
+        function = new SystemFunction(precision, 100);
+        exporter = new CsvExporter();
+        file = File.createTempFile("csv-exporter-benchmark", ".csv");
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void exportToCsv() throws IOException {
+        exporter.exportToCsv(function, start, end, step, precision, file.getPath());
+    }
+}
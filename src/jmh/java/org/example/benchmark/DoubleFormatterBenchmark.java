@@ -0,0 +1,57 @@
+package org.example.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.example.util.DoubleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Форматирование double в байты против Double.toString
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleFormatterBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private final double[] values = new double[VALUES];
+    private final byte[] buffer = new byte[DoubleFormatter.MAX_LENGTH];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 4);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void doubleFormatter(Blackhole blackhole) {
+        for (double value : values) {
+            blackhole.consume(DoubleFormatter.format(value, buffer, 0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void doubleToString(Blackhole blackhole) {
+        for (double value : values) {
+            blackhole.consume(Double.toString(value));
+        }
+    }
+}
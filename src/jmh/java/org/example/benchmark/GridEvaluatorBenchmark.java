@@ -0,0 +1,112 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.system.GridEvaluator;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Sin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Пакетное вычисление на сетке против GridEvaluator: полный ряд в каждом узле против рекуррентности от узла к узлу
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridEvaluatorBenchmark {
+
+    private static final int POINTS = 4096;
+    private static final double START = -6.0;
+    private static final double STEP = 6.0 / POINTS;
+    private static final double POSITIVE_START = 0.5;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12"})
+    public double precision;
+
+    private Ln ln;
+    private Sin sin;
+    private SystemFunction system;
+    private GridEvaluator sinGrid;
+    private GridEvaluator systemGrid;
+    private GridEvaluator lnGrid;
+    private double[] xs;
+    private double[] positiveXs;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        sin = new Sin(precision, 100);
+        ln = new Ln(precision, 100);
+        system = new SystemFunction(sin, ln);
+        sinGrid = GridEvaluator.of(sin, GridEvaluator.SIN);
+        systemGrid = GridEvaluator.of(system);
+        lnGrid = GridEvaluator.of(ln);
+        xs = new double[POINTS];
+        positiveXs = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            xs[i] = START + i * STEP;
+            positiveXs[i] = POSITIVE_START + i * STEP;
+        }
+        out = new double[POINTS];
+    }
+
+    @Benchmark
+    public double[] sinBatch() {
+        sin.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] sinGrid() {
+        sinGrid.evaluate(START, STEP, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] systemBatch() {
+        system.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] systemGrid() {
+        systemGrid.evaluate(START, STEP, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] lnBatch() {
+        ln.calculate(positiveXs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] lnGrid() {
+        lnGrid.evaluate(POSITIVE_START, STEP, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] systemPositiveBatch() {
+        system.calculate(positiveXs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] systemPositiveGrid() {
+        systemGrid.evaluate(POSITIVE_START, STEP, 0, POINTS, precision, out);
+        return out;
+    }
+}
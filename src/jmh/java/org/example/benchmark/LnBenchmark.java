@@ -0,0 +1,64 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.PolynomialLn;
+import org.example.functions.logarithmic.TableLn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Стоимость ln(x) на краях диапазона double: после сведения по показателю она не должна расти с |ln x|
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LnBenchmark {
+
+    @Param({"1e-300", "1e-10", "0.999", "1", "1.001", "1e10", "1e300"})
+    public double x;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12", "1e-15"})
+    public double precision;
+
+    @Param({"10", "100", "1000"})
+    public int maxIterations;
+
+    @Param({"series", "polynomial", "table"})
+    public String implementation;
+
+    private Ln ln;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "series":
+                ln = new Ln(precision, maxIterations);
+                break;
+            case "polynomial":
+                ln = new PolynomialLn(precision, maxIterations);
+                break;
+            case "table":
+                ln = new TableLn(precision, maxIterations, 7);
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестная реализация: " + implementation);
+        }
+    }
+
+    @Benchmark
+    public double calculate() {
+        return ln.calculate(x, precision);
+    }
+}
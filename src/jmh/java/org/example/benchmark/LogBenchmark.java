@@ -0,0 +1,50 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogBenchmark {
+
+    @Param({"2", "3", "10"})
+    public double base;
+
+    @Param({"1e-10", "0.999", "2.5", "1e10"})
+    public double x;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12", "1e-15"})
+    public double precision;
+
+    @Param({"100"})
+    public int maxIterations;
+
+    private Log log;
+
+    @Setup
+    public void setUp() {
+        log = new Log(new Ln(precision, maxIterations), base);
+    }
+
+    @Benchmark
+    public double calculate() {
+        return log.calculate(x, precision);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Sin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Быстрый путь грубых точностей против ряда (*Series запускаются с -Dorg.example.lowPrecision=false)
+// и float[] против double[] в пакете. Максимальная ошибка на сетке печатается при настройке
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LowPrecisionBenchmark {
+
+    private static final int POINTS = 4096;
+    private static final double START = -6.0;
+    private static final double STEP = 6.0 / POINTS;
+    private static final double POSITIVE_START = 0.05;
+    private static final double POSITIVE_STEP = 20.0 / POINTS;
+
+    @Param({"1e-2", "1e-4", "1e-6"})
+    public double precision;
+
+    private Sin sin;
+    private Ln ln;
+    private SystemFunction system;
+    private double[] xs;
+    private double[] positiveXs;
+    private double[] out;
+    private float[] floatXs;
+    private float[] floatPositiveXs;
+    private float[] floatOut;
+
+    @Setup
+    public void setUp() {
+        sin = new Sin(precision, 100);
+        ln = new Ln(precision, 100);
+        system = new SystemFunction(sin, ln);
+        xs = new double[POINTS];
+        positiveXs = new double[POINTS];
+        floatXs = new float[POINTS];
+        floatPositiveXs = new float[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            xs[i] = START + i * STEP;
+            positiveXs[i] = POSITIVE_START + i * POSITIVE_STEP;
+            floatXs[i] = (float) xs[i];
+            floatPositiveXs[i] = (float) positiveXs[i];
+        }
+        out = new double[POINTS];
+        floatOut = new float[POINTS];
+
+        double sinError = 0;
+        double lnError = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sinError = Math.max(sinError, Math.abs(sin.calculate(xs[i], precision) - Math.sin(xs[i])));
+            lnError = Math.max(lnError, Math.abs(ln.calculate(positiveXs[i], precision) - Math.log(positiveXs[i])));
+        }
+        System.out.printf("%nprecision %s: max |sin error| = %.3e, max |ln error| = %.3e%n",
+                precision, sinError, lnError);
+    }
+
+    @Benchmark
+    public double[] sinFast() {
+        sin.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.lowPrecision=false")
+    public double[] sinSeries() {
+        sin.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public float[] sinFloat() {
+        sin.calculate(floatXs, 0, POINTS, precision, floatOut);
+        return floatOut;
+    }
+
+    @Benchmark
+    public double[] lnFast() {
+        ln.calculate(positiveXs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.lowPrecision=false")
+    public double[] lnSeries() {
+        ln.calculate(positiveXs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public float[] lnFloat() {
+        ln.calculate(floatPositiveXs, 0, POINTS, precision, floatOut);
+        return floatOut;
+    }
+
+    @Benchmark
+    public double[] systemFast() {
+        system.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.lowPrecision=false")
+    public double[] systemSeries() {
+        system.calculate(xs, 0, POINTS, precision, out);
+        return out;
+    }
+
+    @Benchmark
+    public float[] systemFloat() {
+        system.calculate(floatXs, 0, POINTS, precision, floatOut);
+        return floatOut;
+    }
+}
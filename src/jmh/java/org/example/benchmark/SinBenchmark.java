@@ -0,0 +1,64 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.trigonometric.PolynomialSin;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.TableSin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Ряд Тейлора для sin: около нуля, около ±π (самый длинный ряд) и при большом |x|
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SinBenchmark {
+
+    @Param({"1e-4", "0.5", "-1.5707963", "3.1415", "1e6"})
+    public double x;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12", "1e-15"})
+    public double precision;
+
+    @Param({"10", "100", "1000"})
+    public int maxIterations;
+
+    @Param({"series", "table", "polynomial"})
+    public String implementation;
+
+    private Sin sin;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "series":
+                sin = new Sin(precision, maxIterations);
+                break;
+            case "table":
+                sin = new TableSin(precision, maxIterations, TableSin.tableSizeFor(precision));
+                break;
+            case "polynomial":
+                sin = new PolynomialSin(precision, maxIterations);
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестная реализация: " + implementation);
+        }
+    }
+
+    @Benchmark
+    public double calculate() {
+        return sin.calculate(x, precision);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.expression.ExpressionSystem;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.CompiledSystemFunction;
+import org.example.functions.system.PlannedSystemFunction;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Сравнение композиции из девяти объектов с совмещенным вычислением sin/cos и ln
+// с вычислителем, скомпилированным под фиксированную точность, с декларативной ExpressionSystem
+// и с подбором точности компонент под каждую точку (planned)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemFunctionBenchmark {
+
+    @Param({"-1.5707963", "-0.5", "-2.0", "-5.2", "0.5", "1.001", "3.5", "1e10"})
+    public double x;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12", "1e-15"})
+    public double precision;
+
+    @Param({"100"})
+    public int maxIterations;
+
+    private SystemFunction composed;
+    private SystemFunction fused;
+    private CompiledSystemFunction compiled;
+    private PlannedSystemFunction planned;
+    private ExpressionSystem declarative;
+
+    @Setup
+    public void setUp() {
+        Sin sin = new Sin(precision, maxIterations);
+        Cos cos = new Cos(sin);
+        Ln ln = new Ln(precision, maxIterations);
+        composed = new SystemFunction(cos, new Sec(cos), new Cot(sin, cos), new Tan(sin, cos), new Csc(sin),
+                ln, new Log(ln, 10), new Log(ln, 2), new Log(ln, 3));
+        fused = new SystemFunction(sin, ln);
+        compiled = fused.compile(precision);
+        planned = fused.planned();
+        declarative = ExpressionSystem.standard(sin, ln);
+    }
+
+    @Benchmark
+    public double composed() {
+        return composed.calculate(x, precision);
+    }
+
+    @Benchmark
+    public double fused() {
+        return fused.calculate(x, precision);
+    }
+
+    @Benchmark
+    public double compiled() {
+        return compiled.evaluate(x);
+    }
+
+    @Benchmark
+    public double planned() {
+        return planned.calculate(x, precision);
+    }
+
+    @Benchmark
+    public double declarative() {
+        return declarative.calculate(x, precision);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Обертки над Sin: отдельно точки рядом с полюсами (-π/2, -π) и большие |x|
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigonometricBenchmark {
+
+    @Param({"cos", "sec", "tan", "cot", "csc"})
+    public String function;
+
+    @Param({"-1.5707963", "-3.1415926", "-0.5", "-1e6"})
+    public double x;
+
+    @Param({"1e-3", "1e-6", "1e-9", "1e-12", "1e-15"})
+    public double precision;
+
+    @Param({"100"})
+    public int maxIterations;
+
+    private MathFunction target;
+
+    @Setup
+    public void setUp() {
+        Sin sin = new Sin(precision, maxIterations);
+        Cos cos = new Cos(sin);
+        switch (function) {
+            case "cos":
+                target = cos;
+                break;
+            case "sec":
+                target = new Sec(cos);
+                break;
+            case "tan":
+                target = new Tan(sin, cos);
+                break;
+            case "cot":
+                target = new Cot(sin, cos);
+                break;
+            case "csc":
+                target = new Csc(sin);
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестная функция: " + function);
+        }
+    }
+
+    @Benchmark
+    public double calculate() {
+        return target.calculate(x, precision);
+    }
+}
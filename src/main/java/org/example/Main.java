@@ -3,14 +3,23 @@ package org.example;
 import java.io.IOException;
 
 import org.example.functions.base.MathFunction;
+import org.example.functions.cache.CachingMathFunction;
 import org.example.functions.system.SystemFunction;
+import org.example.server.EvaluationServer;
 import org.example.util.CsvExporter;
 
 public class Main {
 
     public static void main(String[] args) {
+        // "serve [порт]" — вместо экспорта поднимаем HTTP-сервис вычисления функций
+        if (args.length > 0 && args[0].equals("serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+            return;
+        }
+
         // Создаем экземпляр системы функций с заданной точностью
-        MathFunction systemFunction = new SystemFunction(1e-6, 100);
+        // Все экспорты и проверочные значения идут через общий кэш: диапазоны пересекаются
+        CachingMathFunction systemFunction = new CachingMathFunction(new SystemFunction(1e-6, 100), 1 << 12);
 
         // Создаем экземпляр экспортера
         CsvExporter exporter = new CsvExporter();
@@ -60,12 +69,25 @@ public class Main {
             printFunctionValue(systemFunction, 1.0);
             printFunctionValue(systemFunction, 2.0);
 
+            System.out.println("Кэш: " + systemFunction.getStats());
+
         } catch (IOException e) {
             System.err.println("Ошибка при экспорте данных: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    private static void serve(int port) {
+        try {
+            EvaluationServer server = new EvaluationServer(port);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.out.println("Сервер вычислений запущен: http://localhost:" + server.getPort() + "/stats");
+        } catch (IOException e) {
+            System.err.println("Не удалось запустить сервер: " + e.getMessage());
+        }
+    }
+
     private static void printFunctionValue(MathFunction function, double x) {
         double result = function.calculate(x, 1e-6);
         System.out.printf("f(%.4f) = %.8f%n", x, result);
@@ -2,13 +2,29 @@ package org.example.functions.base;
 
 import java.util.Objects;
 
+import org.example.functions.metrics.ConvergenceMetrics;
+import org.example.functions.metrics.ConvergenceSnapshot;
+
 public abstract class BaseFunction implements MathFunction {
+    // Быстрый путь для грубых точностей: вместо ряда с проверкой остатка — многочлен фиксированной степени,
+    // рассчитанный на самый грубый из уровней LOW_PRECISION_TIERS, который не хуже запрошенной точности.
+    // Выключается свойством -Dorg.example.lowPrecision=false (для сравнения в бенчмарках)
+    public static final boolean LOW_PRECISION_ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("org.example.lowPrecision"));
+
+    // Уровни точности от грубого к точному; запросы строже последнего считаются рядом
+    private static final double[] LOW_PRECISION_TIERS = {1e-2, 1e-3, 1e-4, 1e-5, 1e-6};
+    protected static final int LOW_PRECISION_TIER_COUNT = LOW_PRECISION_TIERS.length;
+
     private final double epsilon;
     private final int maxIterations;
+    // null, если метрики выключены свойством org.example.metrics
+    private final ConvergenceMetrics metrics;
 
     public BaseFunction(double epsilon, int maxIterations) {
         this.epsilon = epsilon;
         this.maxIterations = maxIterations;
+        this.metrics = ConvergenceMetrics.ENABLED ? ConvergenceMetrics.forFunction(metricsName()) : null;
     }
 
     public BaseFunction() {
@@ -23,6 +39,11 @@ public abstract class BaseFunction implements MathFunction {
         return maxIterations;
     }
 
+    // Снимок счетчиков сходимости; null, если метрики выключены
+    public ConvergenceSnapshot getConvergenceSnapshot() {
+        return ConvergenceMetrics.ENABLED ? metrics.snapshot() : null;
+    }
+
     @Override
     public abstract double calculate(double x, double precision);
 
@@ -36,6 +57,32 @@ public abstract class BaseFunction implements MathFunction {
         }
     }
 
+    // Проверка точности один раз на всю пачку аргументов
+    protected static boolean isValidPrecision(double precision) {
+        return !Double.isNaN(precision) && precision > 0 && precision < 1;
+    }
+
+    protected static double lowPrecisionTierBound(int tier) {
+        return LOW_PRECISION_TIERS[tier];
+    }
+
+    // Номер уровня для precision или -1, если быстрый путь выключен или точность строже всех уровней
+    protected static int lowPrecisionTier(double precision) {
+        if (!LOW_PRECISION_ENABLED || !(precision >= LOW_PRECISION_TIERS[LOW_PRECISION_TIER_COUNT - 1])) {
+            return -1;
+        }
+
+        int tier = 0;
+        while (LOW_PRECISION_TIERS[tier] > precision) {
+            tier++;
+        }
+        return tier;
+    }
+
+    protected static boolean isValidArgument(double x) {
+        return !Double.isNaN(x) && !Double.isInfinite(x);
+    }
+
     protected boolean validateArgs(double x, double precision) {
         try {
             checkValidity(x, precision);
@@ -44,4 +91,29 @@ public abstract class BaseFunction implements MathFunction {
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    // Ряд просуммирован за iterations членов; truncated — остановлен по maxIterations, не достигнув точности
+    protected final void recordSeries(int iterations, boolean truncated) {
+        if (ConvergenceMetrics.ENABLED) {
+            metrics.recordSeries(iterations, truncated);
+        }
+    }
+
+    protected final double recordNaN() {
+        if (ConvergenceMetrics.ENABLED) {
+            metrics.recordNaN();
+        }
+        return Double.NaN;
+    }
+
+    protected final void recordNaN(int count) {
+        if (ConvergenceMetrics.ENABLED) {
+            metrics.recordNaN(count);
+        }
+    }
+
+    private String metricsName() {
+        String name = getClass().getSimpleName();
+        return name.isEmpty() ? getClass().getName() : name;
+    }
+}
@@ -1,5 +1,46 @@
 package org.example.functions.base;
 
+import java.util.Objects;
+
 public interface MathFunction {
+    int FLOAT_BATCH_CHUNK = 512;
+
     double calculate(double x, double precision);
-} 
\ No newline at end of file
+
+    // Пакетное вычисление: результат для xs[i] записывается в out[i], i ∈ [from, to)
+    default void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        checkBatchBounds(xs, from, to, out);
+        for (int i = from; i < to; i++) {
+            out[i] = calculate(xs[i], precision);
+        }
+    }
+
+    // Пакет в float: вдвое меньше памяти на аргументы и результаты. Вычисление идет в double,
+    // округляется только результат, поэтому точность строже ~1e-7 относительно |f(x)| теряется
+    default void calculate(float[] xs, int from, int to, double precision, float[] out) {
+        checkBatchBounds(xs, from, to, out);
+
+        // Кусками через пакет в double, чтобы работали пакетные реализации (проверка точности один раз и т. п.)
+        double[] buffer = new double[Math.min(FLOAT_BATCH_CHUNK, to - from)];
+        for (int start = from; start < to; start += buffer.length) {
+            int count = Math.min(buffer.length, to - start);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = xs[start + i];
+            }
+            calculate(buffer, 0, count, precision, buffer);
+            for (int i = 0; i < count; i++) {
+                out[start + i] = (float) buffer[i];
+            }
+        }
+    }
+
+    static void checkBatchBounds(double[] xs, int from, int to, double[] out) {
+        Objects.checkFromToIndex(from, to, xs.length);
+        Objects.checkFromToIndex(from, to, out.length);
+    }
+
+    static void checkBatchBounds(float[] xs, int from, int to, float[] out) {
+        Objects.checkFromToIndex(from, to, xs.length);
+        Objects.checkFromToIndex(from, to, out.length);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.functions.base;
+
+// Вычисление многочленов с заранее известными коэффициентами
+public final class Polynomials {
+
+    private Polynomials() {
+    }
+
+    // Схема Горнера c[0] + u * (c[1] + u * (... + u * c[n - 1])) через fma, без делений и ветвлений
+    public static double horner(double[] coefficients, double u) {
+        int i = coefficients.length - 1;
+        double result = coefficients[i];
+        for (i--; i >= 0; i--) {
+            result = Math.fma(result, u, coefficients[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.functions.cache;
+
+// Снимок счетчиков кэша на момент вызова
+public class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, evictions=%d, hitRate=%.2f%%",
+                hits, misses, evictions, 100 * getHitRate());
+    }
+}
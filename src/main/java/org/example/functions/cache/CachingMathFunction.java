@@ -0,0 +1,255 @@
+package org.example.functions.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import org.example.functions.base.MathFunction;
+
+// Декоратор, запоминающий значения любой MathFunction по битам (x, precision).
+// Таблица с открытой адресацией на примитивных массивах разбита на сегменты со своими StampedLock:
+// чтение идет без блокировки (оптимистично), запись блокирует только свой сегмент.
+public class CachingMathFunction implements MathFunction {
+
+    // Сколько соседних ячеек просматривается, прежде чем вытеснить запись
+    private static final int MAX_PROBE = 8;
+
+    // Пакет обрабатывается кусками, чтобы буферы промахов не росли с размером пакета
+    private static final int BATCH_CHUNK = 4096;
+
+    private final MathFunction function;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int segmentShift;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingMathFunction(MathFunction function, int capacity) {
+        this(function, capacity, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    public CachingMathFunction(MathFunction function, int capacity, int stripes) {
+        if (capacity <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("Размер кэша и число сегментов должны быть положительными");
+        }
+
+        int segmentCount = ceilingPowerOfTwo(Math.min(stripes, capacity));
+        int segmentCapacity = ceilingPowerOfTwo(Math.max(MAX_PROBE, capacity / segmentCount));
+
+        this.function = function;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    @Override
+    public double calculate(double x, double precision) {
+        long xBits = Double.doubleToLongBits(x);
+        long precisionBits = Double.doubleToLongBits(precision);
+        long hash = hash(xBits, precisionBits);
+        Segment segment = segments[(int) hash & segmentMask];
+        int home = (int) (hash >>> segmentShift);
+
+        // Оптимистичное чтение без блокировки; при конкурентной записи повторяем под readLock
+        StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        int slot = segment.find(home, xBits, precisionBits);
+        double value = slot >= 0 ? segment.values[slot] : 0.0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slot = segment.find(home, xBits, precisionBits);
+                value = slot >= 0 ? segment.values[slot] : 0.0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (slot >= 0) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = function.calculate(x, precision);
+        store(segment, home, xBits, precisionBits, value);
+        return value;
+    }
+
+    // Попадания берутся из таблицы, а все промахи куска уходят в пакетный вызов обернутой функции одним
+    // вызовом, чтобы не терять ее пакетный путь (совмещенные sin/cos и ln в SystemFunction и т. п.)
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        long precisionBits = Double.doubleToLongBits(precision);
+        int chunk = Math.min(BATCH_CHUNK, to - from);
+        int[] missIndexes = new int[chunk];
+        double[] missXs = new double[chunk];
+        double[] missValues = new double[chunk];
+
+        for (int start = from; start < to; start += chunk) {
+            int end = Math.min(start + chunk, to);
+            int missCount = 0;
+            for (int i = start; i < end; i++) {
+                if (!lookup(xs[i], precisionBits, out, i)) {
+                    missIndexes[missCount] = i;
+                    missXs[missCount] = xs[i];
+                    missCount++;
+                }
+            }
+            hits.add(end - start - missCount);
+            if (missCount == 0) {
+                continue;
+            }
+
+            misses.add(missCount);
+            function.calculate(missXs, 0, missCount, precision, missValues);
+            for (int j = 0; j < missCount; j++) {
+                double x = missXs[j];
+                long xBits = Double.doubleToLongBits(x);
+                long hash = hash(xBits, precisionBits);
+                store(segments[(int) hash & segmentMask], (int) (hash >>> segmentShift),
+                        xBits, precisionBits, missValues[j]);
+                out[missIndexes[j]] = missValues[j];
+            }
+        }
+    }
+
+    // Записывает значение в out[index] и возвращает true, если (x, precision) есть в таблице
+    private boolean lookup(double x, long precisionBits, double[] out, int index) {
+        long xBits = Double.doubleToLongBits(x);
+        long hash = hash(xBits, precisionBits);
+        Segment segment = segments[(int) hash & segmentMask];
+        int home = (int) (hash >>> segmentShift);
+
+        StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        int slot = segment.find(home, xBits, precisionBits);
+        double value = slot >= 0 ? segment.values[slot] : 0.0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slot = segment.find(home, xBits, precisionBits);
+                value = slot >= 0 ? segment.values[slot] : 0.0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (slot < 0) {
+            return false;
+        }
+        out[index] = value;
+        return true;
+    }
+
+    private void store(Segment segment, int home, long xBits, long precisionBits, double value) {
+        long stamp = segment.lock.writeLock();
+        try {
+            if (segment.put(home, xBits, precisionBits, value)) {
+                evictions.increment();
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public int getCapacity() {
+        return segments.length * segments[0].values.length;
+    }
+
+    public MathFunction getFunction() {
+        return function;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                Arrays.fill(segment.used, false);
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    // Перемешивание битов ключа (финализатор MurmurHash3)
+    private static long hash(long xBits, long precisionBits) {
+        long h = xBits * 0x9E3779B97F4A7C15L + precisionBits;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int ceilingPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private final long[] xKeys;
+        private final long[] precisionKeys;
+        private final double[] values;
+        private final boolean[] used;
+        private final int mask;
+
+        // Смещение жертвы внутри окна пробирования, чтобы не вытеснять всегда одну ячейку
+        private int victim;
+
+        Segment(int capacity) {
+            this.xKeys = new long[capacity];
+            this.precisionKeys = new long[capacity];
+            this.values = new double[capacity];
+            this.used = new boolean[capacity];
+            this.mask = capacity - 1;
+        }
+
+        int find(int home, long xBits, long precisionBits) {
+            for (int i = 0; i < MAX_PROBE; i++) {
+                int slot = (home + i) & mask;
+                if (!used[slot]) {
+                    return -1;
+                }
+                if (xKeys[slot] == xBits && precisionKeys[slot] == precisionBits) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        // Возвращает true, если пришлось вытеснить чужую запись
+        boolean put(int home, long xBits, long precisionBits, double value) {
+            for (int i = 0; i < MAX_PROBE; i++) {
+                int slot = (home + i) & mask;
+                if (!used[slot] || xKeys[slot] == xBits && precisionKeys[slot] == precisionBits) {
+                    store(slot, xBits, precisionBits, value);
+                    return false;
+                }
+            }
+
+            victim = (victim + 1) & (MAX_PROBE - 1);
+            store((home + victim) & mask, xBits, precisionBits, value);
+            return true;
+        }
+
+        private void store(int slot, long xBits, long precisionBits, double value) {
+            xKeys[slot] = xBits;
+            precisionKeys[slot] = precisionBits;
+            values[slot] = value;
+            used[slot] = true;
+        }
+    }
+}
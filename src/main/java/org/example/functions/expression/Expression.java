@@ -0,0 +1,215 @@
+package org.example.functions.expression;
+
+import java.util.Objects;
+
+// Неизменяемое дерево выражения от одной переменной x над Sin, Cos, Tan, Cot, Sec, Csc, Ln и Log.
+// Узлы сравниваются структурно, поэтому одинаковые подвыражения можно находить через equals
+public abstract class Expression {
+
+    Expression() {
+    }
+
+    public static Expression parse(String source) {
+        return new ExpressionParser(source).parse();
+    }
+
+    public static Expression constant(double value) {
+        return new Constant(value);
+    }
+
+    public static Expression variable() {
+        return Variable.INSTANCE;
+    }
+
+    public static Expression call(Primitive primitive, Expression argument) {
+        if (primitive == Primitive.LOG) {
+            throw new IllegalArgumentException("Для логарифма по основанию используйте log(base, argument)");
+        }
+        return new Call(primitive, Double.NaN, argument);
+    }
+
+    public static Expression log(double base, Expression argument) {
+        if (base <= 0 || base == 1) {
+            throw new IllegalArgumentException("Основание логарифма должно быть положительным и не равным 1");
+        }
+        return new Call(Primitive.LOG, base, argument);
+    }
+
+    public static Expression add(Expression left, Expression right) {
+        return new Binary('+', left, right);
+    }
+
+    public static Expression subtract(Expression left, Expression right) {
+        return new Binary('-', left, right);
+    }
+
+    public static Expression multiply(Expression left, Expression right) {
+        return new Binary('*', left, right);
+    }
+
+    public static Expression divide(Expression left, Expression right) {
+        return new Binary('/', left, right);
+    }
+
+    public static Expression power(Expression base, double exponent) {
+        return new Power(base, exponent);
+    }
+
+    public static Expression negate(Expression operand) {
+        return new Negate(operand);
+    }
+
+    static final class Constant extends Expression {
+        final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Constant && Double.compare(value, ((Constant) o).value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(value);
+        }
+    }
+
+    static final class Variable extends Expression {
+        static final Variable INSTANCE = new Variable();
+
+        private Variable() {
+        }
+
+        @Override
+        public String toString() {
+            return "x";
+        }
+    }
+
+    static final class Call extends Expression {
+        final Primitive primitive;
+        // Основание для LOG, иначе NaN
+        final double base;
+        final Expression argument;
+
+        Call(Primitive primitive, double base, Expression argument) {
+            this.primitive = Objects.requireNonNull(primitive);
+            this.base = base;
+            this.argument = Objects.requireNonNull(argument);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Call)) {
+                return false;
+            }
+            Call other = (Call) o;
+            return primitive == other.primitive && Double.compare(base, other.base) == 0
+                    && argument.equals(other.argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(primitive, base, argument);
+        }
+
+        @Override
+        public String toString() {
+            if (primitive == Primitive.LOG) {
+                return "log(" + argument + ", " + base + ")";
+            }
+            return primitive.getName() + "(" + argument + ")";
+        }
+    }
+
+    static final class Binary extends Expression {
+        final char operator;
+        final Expression left;
+        final Expression right;
+
+        Binary(char operator, Expression left, Expression right) {
+            this.operator = operator;
+            this.left = Objects.requireNonNull(left);
+            this.right = Objects.requireNonNull(right);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Binary)) {
+                return false;
+            }
+            Binary other = (Binary) o;
+            return operator == other.operator && left.equals(other.left) && right.equals(other.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operator, left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " " + operator + " " + right + ")";
+        }
+    }
+
+    static final class Power extends Expression {
+        final Expression base;
+        final double exponent;
+
+        Power(Expression base, double exponent) {
+            this.base = Objects.requireNonNull(base);
+            this.exponent = exponent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Power)) {
+                return false;
+            }
+            Power other = (Power) o;
+            return Double.compare(exponent, other.exponent) == 0 && base.equals(other.base);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(base, exponent);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + base + " ^ " + exponent + ")";
+        }
+    }
+
+    static final class Negate extends Expression {
+        final Expression operand;
+
+        Negate(Expression operand) {
+            this.operand = Objects.requireNonNull(operand);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Negate && operand.equals(((Negate) o).operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * operand.hashCode() + 1;
+        }
+
+        @Override
+        public String toString() {
+            return "-" + operand;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.functions.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.functions.base.MathFunction;
+
+// Собирает OptimizedExpression с фиксированной точностью в дерево MethodHandle типа (double)double.
+// Слот i вычисляется один раз и передается дальше как аргумент: на уровне k обработчики имеют тип
+// (s[k-1], ..., s[0], x), а foldArguments по очереди подставляет вычисленные слоты
+final class ExpressionCompiler {
+
+    private static final MethodHandle ADD;
+    private static final MethodHandle MULTIPLY;
+    private static final MethodHandle SCALE;
+    private static final MethodHandle POWER;
+    private static final MethodHandle MATH_POW;
+    private static final MethodHandle IS_NOT_NAN;
+    private static final MethodHandle AT_LEAST;
+    private static final MethodHandle CALCULATE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType binary = MethodType.methodType(double.class, double.class, double.class);
+        try {
+            ADD = lookup.findStatic(ExpressionCompiler.class, "add", binary);
+            MULTIPLY = lookup.findStatic(ExpressionCompiler.class, "multiply", binary);
+            SCALE = lookup.findStatic(ExpressionCompiler.class, "scale", binary);
+            POWER = lookup.findStatic(ExpressionCompiler.class, "power",
+                    MethodType.methodType(double.class, double.class, int.class));
+            MATH_POW = lookup.findStatic(Math.class, "pow", binary);
+            IS_NOT_NAN = lookup.findStatic(ExpressionCompiler.class, "isNotNaN",
+                    MethodType.methodType(boolean.class, double.class));
+            AT_LEAST = lookup.findStatic(ExpressionCompiler.class, "atLeast",
+                    MethodType.methodType(boolean.class, double.class, double.class));
+            CALCULATE = lookup.findVirtual(MathFunction.class, "calculate", binary);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final OptimizedExpression expression;
+    private final double precision;
+    private final MethodHandle sin;
+    private final MethodHandle cos;
+    private final MethodHandle ln;
+
+    private ExpressionCompiler(OptimizedExpression expression, double precision,
+                               MathFunction sin, MathFunction cos, MathFunction ln) {
+        this.expression = expression;
+        this.precision = precision;
+        this.sin = bind(sin);
+        this.cos = bind(cos);
+        this.ln = bind(ln);
+    }
+
+    static MethodHandle compile(OptimizedExpression expression, double precision,
+                                MathFunction sin, MathFunction cos, MathFunction ln) {
+        return new ExpressionCompiler(expression, precision, sin, cos, ln).compile();
+    }
+
+    private MethodHandle compile() {
+        int slotCount = expression.slots.size();
+        MethodHandle result = guard(compileSum(expression.body, slotCount), slotCount);
+
+        // Подставляем слоты с последнего: слот i видит x и все слоты до него
+        for (int i = slotCount - 1; i >= 0; i--) {
+            result = MethodHandles.foldArguments(result, compileSlot(expression.slots.get(i), i));
+        }
+        return result;
+    }
+
+    private MethodHandle compileSlot(Slot slot, int level) {
+        switch (slot.kind) {
+            case VARIABLE:
+                return variable(level);
+            case SIN:
+                return MethodHandles.filterReturnValue(compileSum(slot.operand, level), sin);
+            case COS:
+                return MethodHandles.filterReturnValue(compileSum(slot.operand, level), cos);
+            case LN:
+                return MethodHandles.filterReturnValue(compileSum(slot.operand, level), ln);
+            default:
+                return compileSum(slot.operand, level);
+        }
+    }
+
+    // NaN, если какой-либо атом не определен или не выполнено условие |guard| >= precision
+    private MethodHandle guard(MethodHandle body, int level) {
+        List<MethodHandle> conditions = new ArrayList<>();
+        for (int i = 0; i < level; i++) {
+            if (expression.slots.get(i).isAtom()) {
+                conditions.add(MethodHandles.filterReturnValue(slot(i, level), IS_NOT_NAN));
+            }
+        }
+        MethodHandle atLeastPrecision = MethodHandles.insertArguments(AT_LEAST, 1, precision);
+        for (Monomial guard : expression.guards) {
+            conditions.add(MethodHandles.filterReturnValue(compileMonomial(guard, level), atLeastPrecision));
+        }
+        if (conditions.isEmpty()) {
+            return body;
+        }
+
+        MethodHandle nan = constant(Double.NaN, level);
+        MethodHandle result = body;
+        for (int i = conditions.size() - 1; i >= 0; i--) {
+            result = MethodHandles.guardWithTest(conditions.get(i), result, nan);
+        }
+        return result;
+    }
+
+    private MethodHandle compileSum(MonomialSum sum, int level) {
+        if (sum.terms.isEmpty()) {
+            return constant(0.0, level);
+        }
+        MethodHandle result = compileMonomial(sum.terms.get(0), level);
+        for (int i = 1; i < sum.terms.size(); i++) {
+            result = combine(ADD, result, compileMonomial(sum.terms.get(i), level), level);
+        }
+        return result;
+    }
+
+    private MethodHandle compileMonomial(Monomial monomial, int level) {
+        if (monomial.isConstant()) {
+            return constant(monomial.coefficient, level);
+        }
+
+        MethodHandle result = null;
+        for (int i = 0; i < monomial.slots.length; i++) {
+            MethodHandle factor = power(slot(monomial.slots[i], level), monomial.exponents[i]);
+            result = result == null ? factor : combine(MULTIPLY, result, factor, level);
+        }
+        if (monomial.coefficient != 1.0) {
+            result = MethodHandles.filterReturnValue(result,
+                    MethodHandles.insertArguments(SCALE, 1, monomial.coefficient));
+        }
+        return result;
+    }
+
+    private MethodHandle power(MethodHandle base, double exponent) {
+        if (exponent == 1.0) {
+            return base;
+        }
+        MethodHandle raise = exponent == Math.rint(exponent) && Math.abs(exponent) <= 64
+                ? MethodHandles.insertArguments(POWER, 1, (int) exponent)
+                : MethodHandles.insertArguments(MATH_POW, 1, exponent);
+        return MethodHandles.filterReturnValue(base, raise);
+    }
+
+    // op(left(frame), right(frame)) как обработчик того же уровня
+    private static MethodHandle combine(MethodHandle op, MethodHandle left, MethodHandle right, int level) {
+        MethodHandle result = MethodHandles.collectArguments(op, 1, right);
+        result = MethodHandles.collectArguments(result, 0, left);
+
+        int width = level + 1;
+        int[] reorder = new int[2 * width];
+        for (int i = 0; i < width; i++) {
+            reorder[i] = i;
+            reorder[width + i] = i;
+        }
+        return MethodHandles.permuteArguments(result, frame(level), reorder);
+    }
+
+    // Значение слота index на уровне level: аргумент с позицией level - 1 - index
+    private static MethodHandle slot(int index, int level) {
+        return MethodHandles.permuteArguments(MethodHandles.identity(double.class), frame(level), level - 1 - index);
+    }
+
+    private static MethodHandle variable(int level) {
+        return MethodHandles.permuteArguments(MethodHandles.identity(double.class), frame(level), level);
+    }
+
+    private static MethodHandle constant(double value, int level) {
+        return MethodHandles.dropArguments(MethodHandles.constant(double.class, value), 0,
+                frame(level).parameterList());
+    }
+
+    private static MethodType frame(int level) {
+        Class<?>[] parameters = new Class<?>[level + 1];
+        Arrays.fill(parameters, double.class);
+        return MethodType.methodType(double.class, parameters);
+    }
+
+    private MethodHandle bind(MathFunction function) {
+        return MethodHandles.insertArguments(CALCULATE.bindTo(function), 1, precision);
+    }
+
+    private static double add(double a, double b) {
+        return a + b;
+    }
+
+    private static double multiply(double a, double b) {
+        return a * b;
+    }
+
+    private static double scale(double value, double coefficient) {
+        return coefficient * value;
+    }
+
+    // Целая степень через возведение в квадрат: быстрее Math.pow для небольших показателей
+    private static double power(double value, int exponent) {
+        if (exponent < 0) {
+            return 1.0 / power(value, -exponent);
+        }
+        double result = 1.0;
+        double base = value;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private static boolean isNotNaN(double value) {
+        return !Double.isNaN(value);
+    }
+
+    private static boolean atLeast(double value, double precision) {
+        return Math.abs(value) >= precision;
+    }
+}
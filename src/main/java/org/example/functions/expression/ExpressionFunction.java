@@ -0,0 +1,113 @@
+package org.example.functions.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Sin;
+
+// Выражение как MathFunction: дерево один раз оптимизируется, а для каждой точности
+// один раз компилируется в MethodHandle (см. ExpressionCompiler)
+public class ExpressionFunction implements MathFunction {
+
+    private final Expression expression;
+    private final OptimizedExpression optimized;
+    private final Sin sin;
+    private final Cos cos;
+    private final Ln ln;
+
+    // Сколько точностей держится скомпилированными; при переполнении таблица сбрасывается
+    private static final int MAX_COMPILED = 8;
+
+    // Обработчики по точности: вызывающие, чередующие несколько точностей, не перекомпилируют дерево
+    private final Map<Double, MethodHandle> compiled = new ConcurrentHashMap<>();
+    // Последняя использованная точность — проверка без упаковки double для обычного случая с одной точностью
+    private volatile Compiled last;
+
+    public ExpressionFunction(Expression expression, Sin sin, Ln ln) {
+        this.expression = expression;
+        this.optimized = ExpressionOptimizer.optimize(expression, ln);
+        this.sin = sin;
+        this.cos = new Cos(sin);
+        this.ln = ln;
+    }
+
+    public ExpressionFunction(String source, Sin sin, Ln ln) {
+        this(Expression.parse(source), sin, ln);
+    }
+
+    public ExpressionFunction(String source) {
+        this(source, new Sin(), new Ln());
+    }
+
+    @Override
+    public double calculate(double x, double precision) {
+        // Некорректная точность дает NaN, как и в Sin и Ln
+        if (Double.isNaN(precision) || precision <= 0 || precision >= 1) {
+            return Double.NaN;
+        }
+        return invoke(evaluatorFor(precision), x);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        if (Double.isNaN(precision) || precision <= 0 || precision >= 1) {
+            Arrays.fill(out, from, to, Double.NaN);
+            return;
+        }
+
+        MethodHandle evaluator = evaluatorFor(precision);
+        for (int i = from; i < to; i++) {
+            out[i] = invoke(evaluator, xs[i]);
+        }
+    }
+
+    private MethodHandle evaluatorFor(double precision) {
+        Compiled current = last;
+        if (current != null && current.precision == precision) {
+            return current.evaluator;
+        }
+
+        if (compiled.size() >= MAX_COMPILED && !compiled.containsKey(precision)) {
+            compiled.clear();
+        }
+        MethodHandle evaluator = compiled.computeIfAbsent(precision,
+                p -> ExpressionCompiler.compile(optimized, p, sin, cos, ln));
+        last = new Compiled(precision, evaluator);
+        return evaluator;
+    }
+
+    private static double invoke(MethodHandle evaluator, double x) {
+        try {
+            return (double) evaluator.invokeExact(x);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public OptimizedExpression getOptimized() {
+        return optimized;
+    }
+
+    private static final class Compiled {
+        final double precision;
+        final MethodHandle evaluator;
+
+        Compiled(double precision, MethodHandle evaluator) {
+            this.precision = precision;
+            this.evaluator = evaluator;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.functions.expression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.functions.logarithmic.Ln;
+
+// Приводит дерево к сумме мономов над общими слотами:
+//   - sin, cos и ln одного аргумента вычисляются один раз (tan, cot, sec, csc и log_b выражаются через них);
+//   - произведения, частные и целые степени сворачиваются в моном: cos^3 * sec -> cos^2;
+//   - подобные слагаемые складываются: (log_10(x) - ln(x)) / (log_2(x) / log_3(x)) -> c * ln(x).
+// Сокращение не должно терять полюсы, поэтому каждый непостоянный знаменатель (и отрицательная степень),
+// каждая функция в нем и каждый полюс tan, cot, sec и csc превращаются в условие |значение| >= precision,
+// как в исходных классах: x / x и x^2 / x остаются NaN в нуле
+final class ExpressionOptimizer {
+
+    private final Ln ln;
+    private final Map<Slot, Integer> slotIndexes = new HashMap<>();
+    private final List<Slot> slots = new ArrayList<>();
+    private final Set<Monomial> guards = new LinkedHashSet<>();
+    private final Map<Double, Double> inverseLnBases = new HashMap<>();
+
+    private ExpressionOptimizer(Ln ln) {
+        this.ln = ln;
+    }
+
+    static OptimizedExpression optimize(Expression expression, Ln ln) {
+        ExpressionOptimizer optimizer = new ExpressionOptimizer(ln);
+        MonomialSum body = optimizer.normalize(expression);
+        return new OptimizedExpression(optimizer.slots, new ArrayList<>(optimizer.guards), body);
+    }
+
+    private MonomialSum normalize(Expression expression) {
+        if (expression instanceof Expression.Constant) {
+            return MonomialSum.constant(((Expression.Constant) expression).value);
+        }
+        if (expression instanceof Expression.Variable) {
+            return MonomialSum.of(Monomial.slot(slotIndex(Slot.VARIABLE)));
+        }
+        if (expression instanceof Expression.Negate) {
+            return normalize(((Expression.Negate) expression).operand).scale(-1);
+        }
+        if (expression instanceof Expression.Power) {
+            Expression.Power power = (Expression.Power) expression;
+            if (power.exponent < 0) {
+                guardDenominator(power.base);
+            }
+            return power(normalize(power.base), power.exponent);
+        }
+        if (expression instanceof Expression.Call) {
+            return normalizeCall((Expression.Call) expression);
+        }
+
+        Expression.Binary binary = (Expression.Binary) expression;
+        MonomialSum left = normalize(binary.left);
+        switch (binary.operator) {
+            case '+':
+                return left.add(normalize(binary.right));
+            case '-':
+                return left.add(normalize(binary.right).scale(-1));
+            case '*':
+                return multiply(left, normalize(binary.right));
+            default:
+                // Делитель, близкий к нулю, дает NaN: охраняем каждую функцию в знаменателе
+                guardCalls(binary.right);
+                guardDenominator(binary.right);
+                return multiply(left, power(normalize(binary.right), -1));
+        }
+    }
+
+    private MonomialSum normalizeCall(Expression.Call call) {
+        MonomialSum argument = normalize(call.argument);
+        switch (call.primitive) {
+            case SIN:
+                return MonomialSum.of(sin(argument));
+            case COS:
+                return MonomialSum.of(cos(argument));
+            case TAN:
+                return MonomialSum.of(sin(argument).multiply(guarded(cos(argument)).reciprocal()));
+            case COT:
+                return MonomialSum.of(cos(argument).multiply(guarded(sin(argument)).reciprocal()));
+            case SEC:
+                return MonomialSum.of(guarded(cos(argument)).reciprocal());
+            case CSC:
+                return MonomialSum.of(guarded(sin(argument)).reciprocal());
+            case LN:
+                return MonomialSum.of(lnOf(argument));
+            default:
+                // log_b(x) = ln(x) * (1 / ln(b)), ln(b) считается тем же Ln, что и в Log
+                return MonomialSum.of(lnOf(argument).withCoefficient(inverseLnBase(call.base)));
+        }
+    }
+
+    private Monomial sin(MonomialSum argument) {
+        return Monomial.slot(slotIndex(new Slot(Slot.Kind.SIN, argument)));
+    }
+
+    private Monomial cos(MonomialSum argument) {
+        return Monomial.slot(slotIndex(new Slot(Slot.Kind.COS, argument)));
+    }
+
+    private Monomial lnOf(MonomialSum argument) {
+        return Monomial.slot(slotIndex(new Slot(Slot.Kind.LN, argument)));
+    }
+
+    private Monomial guarded(Monomial value) {
+        guards.add(value);
+        return value;
+    }
+
+    // После сокращения показателей знаменатель исчезает вместе со своим нулем, поэтому охраняем его заранее.
+    // Степень обращается в ноль вместе с основанием, и порог ставится на основание: sec(x) / cot(x)^2
+    // требует |cot(x)| >= precision, как в SystemFunction
+    private void guardDenominator(Expression denominator) {
+        while (denominator instanceof Expression.Power && ((Expression.Power) denominator).exponent > 0) {
+            denominator = ((Expression.Power) denominator).base;
+        }
+        MonomialSum normalized = normalize(denominator);
+        if (!normalized.isConstant()) {
+            guards.add(asFactor(normalized));
+        }
+    }
+
+    private void guardCalls(Expression expression) {
+        if (expression instanceof Expression.Call) {
+            Expression.Call call = (Expression.Call) expression;
+            guards.add(normalizeCall(call).asMonomial());
+            guardCalls(call.argument);
+        } else if (expression instanceof Expression.Binary) {
+            guardCalls(((Expression.Binary) expression).left);
+            guardCalls(((Expression.Binary) expression).right);
+        } else if (expression instanceof Expression.Power) {
+            guardCalls(((Expression.Power) expression).base);
+        } else if (expression instanceof Expression.Negate) {
+            guardCalls(((Expression.Negate) expression).operand);
+        }
+    }
+
+    private MonomialSum multiply(MonomialSum left, MonomialSum right) {
+        if (left.isConstant()) {
+            return right.scale(left.constantValue());
+        }
+        if (right.isConstant()) {
+            return left.scale(right.constantValue());
+        }
+        // Суммы не раскрываются: это меняло бы округление и могло вносить сокращение разрядов
+        return MonomialSum.of(asFactor(left).multiply(asFactor(right)));
+    }
+
+    private MonomialSum power(MonomialSum base, double exponent) {
+        if (exponent == 1) {
+            return base;
+        }
+        return MonomialSum.of(asFactor(base).power(exponent));
+    }
+
+    // Моном как есть, а сумму из нескольких слагаемых — в отдельный слот
+    private Monomial asFactor(MonomialSum sum) {
+        if (sum.terms.size() <= 1) {
+            return sum.asMonomial();
+        }
+        return Monomial.slot(slotIndex(new Slot(Slot.Kind.GROUP, sum)));
+    }
+
+    private int slotIndex(Slot slot) {
+        Integer index = slotIndexes.get(slot);
+        if (index == null) {
+            index = slots.size();
+            slots.add(slot);
+            slotIndexes.put(slot, index);
+        }
+        return index;
+    }
+
+    private double inverseLnBase(double base) {
+        return inverseLnBases.computeIfAbsent(base, b -> 1.0 / ln.calculate(b, ln.getEpsilon()));
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.functions.expression;
+
+// Рекурсивный спуск по грамматике:
+//   expression := term (('+' | '-') term)*
+//   term       := factor (('*' | '/') factor)*
+//   factor     := '-' factor | power
+//   power      := primary ('^' ['-'] number | '^' '(' ['-'] number ')')?
+//   primary    := number | 'x' | 'pi' | name '(' expression ')' | 'log_' number '(' expression ')'
+//               | 'log' '(' expression ',' number ')' | '(' expression ')'
+final class ExpressionParser {
+
+    private final String source;
+    private int position;
+
+    ExpressionParser(String source) {
+        this.source = source;
+    }
+
+    Expression parse() {
+        Expression result = parseExpression();
+        skipWhitespace();
+        if (position != source.length()) {
+            throw error("Лишние символы");
+        }
+        return result;
+    }
+
+    private Expression parseExpression() {
+        Expression result = parseTerm();
+        while (true) {
+            if (consume('+')) {
+                result = Expression.add(result, parseTerm());
+            } else if (consume('-')) {
+                result = Expression.subtract(result, parseTerm());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseTerm() {
+        Expression result = parseFactor();
+        while (true) {
+            if (consume('*')) {
+                result = Expression.multiply(result, parseFactor());
+            } else if (consume('/')) {
+                result = Expression.divide(result, parseFactor());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseFactor() {
+        if (consume('-')) {
+            return Expression.negate(parseFactor());
+        }
+        return parsePower();
+    }
+
+    private Expression parsePower() {
+        Expression base = parsePrimary();
+        if (!consume('^')) {
+            return base;
+        }
+
+        // Показатель степени — только числовая константа
+        boolean parenthesized = consume('(');
+        double sign = consume('-') ? -1 : 1;
+        double exponent = sign * parseNumber();
+        if (parenthesized) {
+            expect(')');
+        }
+        return Expression.power(base, exponent);
+    }
+
+    private Expression parsePrimary() {
+        skipWhitespace();
+        if (position >= source.length()) {
+            throw error("Неожиданный конец выражения");
+        }
+
+        char c = source.charAt(position);
+        if (c == '(') {
+            position++;
+            Expression inner = parseExpression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return Expression.constant(parseNumber());
+        }
+        if (Character.isLetter(c)) {
+            return parseName();
+        }
+        throw error("Неожиданный символ '" + c + "'");
+    }
+
+    private Expression parseName() {
+        int start = position;
+        while (position < source.length()
+                && (Character.isLetterOrDigit(source.charAt(position)) || source.charAt(position) == '_')) {
+            position++;
+        }
+        String name = source.substring(start, position);
+
+        if (name.equals("x")) {
+            return Expression.variable();
+        }
+        if (name.equals("pi")) {
+            return Expression.constant(Math.PI);
+        }
+
+        // log_10(x), log_2(x), ...
+        if (name.startsWith("log_")) {
+            double base = parseBase(name.substring(4), start);
+            expect('(');
+            Expression argument = parseExpression();
+            expect(')');
+            return Expression.log(base, argument);
+        }
+
+        Primitive primitive = Primitive.byName(name);
+        if (primitive == null) {
+            position = start;
+            throw error("Неизвестная функция '" + name + "'");
+        }
+
+        expect('(');
+        Expression argument = parseExpression();
+        if (primitive == Primitive.LOG) {
+            expect(',');
+            double base = parseNumber();
+            expect(')');
+            return Expression.log(base, argument);
+        }
+        expect(')');
+        return Expression.call(primitive, argument);
+    }
+
+    private double parseBase(String text, int start) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("Некорректное основание логарифма '" + text + "'");
+        }
+    }
+
+    private double parseNumber() {
+        skipWhitespace();
+        int start = position;
+        while (position < source.length()
+                && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+            position++;
+        }
+
+        // Экспонента: 1e-6, 2.5E+3
+        if (position > start && position < source.length()
+                && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            int mark = position++;
+            if (position < source.length() && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                position++;
+            }
+            if (position < source.length() && Character.isDigit(source.charAt(position))) {
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+            } else {
+                position = mark;
+            }
+        }
+
+        if (position == start) {
+            throw error("Ожидалось число");
+        }
+        try {
+            return Double.parseDouble(source.substring(start, position));
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("Некорректное число");
+        }
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (position < source.length() && source.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consume(expected)) {
+            throw error("Ожидался символ '" + expected + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " в позиции " + position + ": " + source);
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.functions.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.trigonometric.Sin;
+
+// Кусочно заданная система: ветви проверяются по порядку, первая подходящая вычисляет значение.
+// Если ни одна ветвь не подошла — NaN
+public class ExpressionSystem implements MathFunction {
+
+    // Формулы SystemFunction в том же виде, в каком они записаны там в комментариях
+    public static final String NEGATIVE_FORMULA =
+            "((((cos(x) ^ 3) * sec(x)) ^ 2) + ((cot(x) * (tan(x) + csc(x))) - (csc(x) * csc(x))))"
+                    + " - (sec(x) / (cot(x) ^ 2))";
+    public static final String POSITIVE_FORMULA =
+            "(((log_10(x) - ln(x)) / (log_2(x) / log_3(x))) ^ 2)";
+
+    private static final Pattern CONDITION = Pattern.compile("\\s*x\\s*(<=|<|>=|>)\\s*(\\S+)\\s*");
+
+    // Операторы условий; строка разбирается один раз при построении
+    private static final int LESS_OR_EQUAL = 0;
+    private static final int LESS = 1;
+    private static final int GREATER_OR_EQUAL = 2;
+    private static final int GREATER = 3;
+
+    private final int[] operators;
+    private final double[] bounds;
+    private final ExpressionFunction[] branches;
+
+    private ExpressionSystem(List<Integer> operators, List<Double> bounds, List<ExpressionFunction> branches) {
+        this.operators = new int[operators.size()];
+        this.bounds = new double[bounds.size()];
+        for (int i = 0; i < this.bounds.length; i++) {
+            this.operators[i] = operators.get(i);
+            this.bounds[i] = bounds.get(i);
+        }
+        this.branches = branches.toArray(new ExpressionFunction[0]);
+    }
+
+    public static Builder builder(Sin sin, Ln ln) {
+        return new Builder(sin, ln);
+    }
+
+    public static Builder builder() {
+        return builder(new Sin(), new Ln());
+    }
+
+    // Декларативная версия SystemFunction
+    public static ExpressionSystem standard(Sin sin, Ln ln) {
+        return builder(sin, ln)
+                .branch("x <= 0", NEGATIVE_FORMULA)
+                .branch("x > 0", POSITIVE_FORMULA)
+                .build();
+    }
+
+    public static ExpressionSystem standard() {
+        return standard(new Sin(), new Ln());
+    }
+
+    @Override
+    public double calculate(double x, double precision) {
+        int branch = branchFor(x);
+        return branch < 0 ? Double.NaN : branches[branch].calculate(x, precision);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        for (int i = from; i < to; i++) {
+            out[i] = calculate(xs[i], precision);
+        }
+    }
+
+    private int branchFor(double x) {
+        for (int i = 0; i < branches.length; i++) {
+            if (matches(operators[i], x, bounds[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(int operator, double x, double bound) {
+        switch (operator) {
+            case LESS_OR_EQUAL:
+                return x <= bound;
+            case LESS:
+                return x < bound;
+            case GREATER_OR_EQUAL:
+                return x >= bound;
+            default:
+                return x > bound;
+        }
+    }
+
+    public int getBranchCount() {
+        return branches.length;
+    }
+
+    public ExpressionFunction getBranch(int index) {
+        return branches[index];
+    }
+
+    public static class Builder {
+        private final Sin sin;
+        private final Ln ln;
+        private final List<Integer> operators = new ArrayList<>();
+        private final List<Double> bounds = new ArrayList<>();
+        private final List<ExpressionFunction> branches = new ArrayList<>();
+
+        private Builder(Sin sin, Ln ln) {
+            this.sin = sin;
+            this.ln = ln;
+        }
+
+        // Условие вида "x <= 0", "x > 1.5"; формула в синтаксисе Expression.parse
+        public Builder branch(String condition, String formula) {
+            Matcher matcher = CONDITION.matcher(condition);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Условие должно иметь вид \"x <= c\": " + condition);
+            }
+
+            double bound;
+            try {
+                bound = Double.parseDouble(matcher.group(2));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Некорректная граница в условии: " + condition, e);
+            }
+
+            operators.add(operatorCode(matcher.group(1)));
+            bounds.add(bound);
+            branches.add(new ExpressionFunction(formula, sin, ln));
+            return this;
+        }
+
+        private static int operatorCode(String operator) {
+            switch (operator) {
+                case "<=":
+                    return LESS_OR_EQUAL;
+                case "<":
+                    return LESS;
+                case ">=":
+                    return GREATER_OR_EQUAL;
+                default:
+                    return GREATER;
+            }
+        }
+
+        public ExpressionSystem build() {
+            if (branches.isEmpty()) {
+                throw new IllegalStateException("Система должна содержать хотя бы одну ветвь");
+            }
+            return new ExpressionSystem(operators, bounds, branches);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.functions.expression;
+
+import java.util.Arrays;
+
+// c * s_i1^k1 * s_i2^k2 * ..., где s — слоты (атомы sin, cos, ln, переменная x или общие подвыражения).
+// Показатели могут быть отрицательными, поэтому tan = sin * cos^-1 и cos^3 * sec = cos^2 — тоже мономы
+final class Monomial implements Comparable<Monomial> {
+
+    static final Monomial ONE = new Monomial(1.0, new int[0], new double[0]);
+
+    final double coefficient;
+    // Номера слотов по возрастанию и их показатели (ненулевые)
+    final int[] slots;
+    final double[] exponents;
+
+    private Monomial(double coefficient, int[] slots, double[] exponents) {
+        this.coefficient = coefficient;
+        this.slots = slots;
+        this.exponents = exponents;
+    }
+
+    static Monomial constant(double value) {
+        return new Monomial(value, new int[0], new double[0]);
+    }
+
+    static Monomial slot(int slot) {
+        return new Monomial(1.0, new int[]{slot}, new double[]{1.0});
+    }
+
+    boolean isConstant() {
+        return slots.length == 0;
+    }
+
+    Monomial withCoefficient(double value) {
+        return new Monomial(value, slots, exponents);
+    }
+
+    Monomial multiply(Monomial other) {
+        int[] mergedSlots = new int[slots.length + other.slots.length];
+        double[] mergedExponents = new double[mergedSlots.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < slots.length || j < other.slots.length) {
+            int slot;
+            double exponent;
+            if (j == other.slots.length || (i < slots.length && slots[i] < other.slots[j])) {
+                slot = slots[i];
+                exponent = exponents[i++];
+            } else if (i == slots.length || other.slots[j] < slots[i]) {
+                slot = other.slots[j];
+                exponent = other.exponents[j++];
+            } else {
+                slot = slots[i];
+                exponent = exponents[i++] + other.exponents[j++];
+            }
+
+            // cos^3 * cos^-1 = cos^2; нулевой показатель убирает слот совсем
+            if (exponent != 0) {
+                mergedSlots[n] = slot;
+                mergedExponents[n++] = exponent;
+            }
+        }
+        return new Monomial(coefficient * other.coefficient,
+                Arrays.copyOf(mergedSlots, n), Arrays.copyOf(mergedExponents, n));
+    }
+
+    Monomial power(double exponent) {
+        double[] powered = new double[exponents.length];
+        for (int i = 0; i < exponents.length; i++) {
+            powered[i] = exponents[i] * exponent;
+        }
+        return new Monomial(Math.pow(coefficient, exponent), slots, powered);
+    }
+
+    Monomial reciprocal() {
+        return power(-1);
+    }
+
+    // Подобные мономы: одинаковые слоты с одинаковыми показателями
+    boolean sameFactors(Monomial other) {
+        return Arrays.equals(slots, other.slots) && Arrays.equals(exponents, other.exponents);
+    }
+
+    // Канонический порядок слагаемых: по слотам и показателям, коэффициент не учитывается
+    @Override
+    public int compareTo(Monomial other) {
+        int length = Math.min(slots.length, other.slots.length);
+        for (int i = 0; i < length; i++) {
+            if (slots[i] != other.slots[i]) {
+                return Integer.compare(slots[i], other.slots[i]);
+            }
+            if (exponents[i] != other.exponents[i]) {
+                return Double.compare(exponents[i], other.exponents[i]);
+            }
+        }
+        return Integer.compare(slots.length, other.slots.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Monomial)) {
+            return false;
+        }
+        Monomial other = (Monomial) o;
+        return Double.compare(coefficient, other.coefficient) == 0 && sameFactors(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Double.hashCode(coefficient) + Arrays.hashCode(slots)) + Arrays.hashCode(exponents);
+    }
+
+    String toString(String[] slotNames) {
+        StringBuilder result = new StringBuilder();
+        if (slots.length == 0 || coefficient != 1.0) {
+            result.append(coefficient);
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (result.length() > 0) {
+                result.append(" * ");
+            }
+            result.append(slotNames[slots[i]]);
+            if (exponents[i] != 1.0) {
+                double exponent = exponents[i];
+                result.append('^').append(exponent == Math.rint(exponent) ? Long.toString((long) exponent)
+                        : Double.toString(exponent));
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.functions.expression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Сумма мономов в каноническом порядке; подобные слагаемые уже сложены
+final class MonomialSum {
+
+    static final MonomialSum ZERO = new MonomialSum(Collections.emptyList());
+
+    final List<Monomial> terms;
+
+    private MonomialSum(List<Monomial> terms) {
+        this.terms = terms;
+    }
+
+    static MonomialSum of(Monomial monomial) {
+        if (monomial.coefficient == 0) {
+            return ZERO;
+        }
+        return new MonomialSum(Collections.singletonList(monomial));
+    }
+
+    static MonomialSum constant(double value) {
+        return of(Monomial.constant(value));
+    }
+
+    boolean isSingleTerm() {
+        return terms.size() == 1;
+    }
+
+    boolean isConstant() {
+        return terms.isEmpty() || (terms.size() == 1 && terms.get(0).isConstant());
+    }
+
+    double constantValue() {
+        return terms.isEmpty() ? 0.0 : terms.get(0).coefficient;
+    }
+
+    // Единственный моном; для нуля — константа 0
+    Monomial asMonomial() {
+        return terms.isEmpty() ? Monomial.constant(0.0) : terms.get(0);
+    }
+
+    MonomialSum add(MonomialSum other) {
+        List<Monomial> merged = new ArrayList<>(terms.size() + other.terms.size());
+        int i = 0;
+        int j = 0;
+        while (i < terms.size() || j < other.terms.size()) {
+            if (j == other.terms.size()) {
+                merged.add(terms.get(i++));
+                continue;
+            }
+            if (i == terms.size()) {
+                merged.add(other.terms.get(j++));
+                continue;
+            }
+
+            Monomial a = terms.get(i);
+            Monomial b = other.terms.get(j);
+            int order = a.compareTo(b);
+            if (order < 0) {
+                merged.add(a);
+                i++;
+            } else if (order > 0) {
+                merged.add(b);
+                j++;
+            } else {
+                // Подобные слагаемые: (1/ln 10) * ln - ln = (1/ln 10 - 1) * ln
+                double coefficient = a.coefficient + b.coefficient;
+                if (coefficient != 0) {
+                    merged.add(a.withCoefficient(coefficient));
+                }
+                i++;
+                j++;
+            }
+        }
+        return new MonomialSum(Collections.unmodifiableList(merged));
+    }
+
+    MonomialSum scale(double factor) {
+        if (factor == 0) {
+            return ZERO;
+        }
+        List<Monomial> scaled = new ArrayList<>(terms.size());
+        for (Monomial term : terms) {
+            scaled.add(term.withCoefficient(term.coefficient * factor));
+        }
+        return new MonomialSum(Collections.unmodifiableList(scaled));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MonomialSum && terms.equals(((MonomialSum) o).terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    String toString(String[] slotNames) {
+        if (terms.isEmpty()) {
+            return "0.0";
+        }
+        StringBuilder result = new StringBuilder();
+        for (Monomial term : terms) {
+            if (result.length() > 0) {
+                result.append(" + ");
+            }
+            result.append(term.toString(slotNames));
+        }
+        return result.toString();
+    }
+}
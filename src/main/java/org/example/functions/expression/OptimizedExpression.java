@@ -0,0 +1,49 @@
+package org.example.functions.expression;
+
+import java.util.Collections;
+import java.util.List;
+
+// Результат ExpressionOptimizer: слоты в порядке вычисления, условия |guard| >= precision и тело —
+// сумма мономов над слотами
+public final class OptimizedExpression {
+
+    final List<Slot> slots;
+    final List<Monomial> guards;
+    final MonomialSum body;
+    private final String[] slotNames;
+
+    OptimizedExpression(List<Slot> slots, List<Monomial> guards, MonomialSum body) {
+        this.slots = Collections.unmodifiableList(slots);
+        this.guards = Collections.unmodifiableList(guards);
+        this.body = body;
+
+        this.slotNames = new String[slots.size()];
+        for (int i = 0; i < slotNames.length; i++) {
+            slotNames[i] = slots.get(i).toString(slotNames);
+        }
+    }
+
+    // Число различных sin, cos и ln, которые вычисляются за один вызов
+    public int getAtomCount() {
+        int count = 0;
+        for (Slot slot : slots) {
+            if (slot.isAtom()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getTermCount() {
+        return body.terms.size();
+    }
+
+    public int getGuardCount() {
+        return guards.size();
+    }
+
+    @Override
+    public String toString() {
+        return body.toString(slotNames);
+    }
+}
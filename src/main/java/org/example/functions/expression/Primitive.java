@@ -0,0 +1,33 @@
+package org.example.functions.expression;
+
+// Элементарные функции, из которых строятся выражения
+public enum Primitive {
+    SIN("sin"),
+    COS("cos"),
+    TAN("tan"),
+    COT("cot"),
+    SEC("sec"),
+    CSC("csc"),
+    LN("ln"),
+    LOG("log");
+
+    private final String name;
+
+    Primitive(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // null, если такой функции нет
+    static Primitive byName(String name) {
+        for (Primitive primitive : values()) {
+            if (primitive.name.equals(name)) {
+                return primitive;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.functions.expression;
+
+import java.util.Objects;
+
+// Значение, которое вычисляется один раз за вызов: переменная, атом sin/cos/ln от аргумента
+// или сумма, которую нельзя свернуть в моном. Одинаковые слоты совпадают по equals
+final class Slot {
+
+    enum Kind {
+        VARIABLE,
+        SIN,
+        COS,
+        LN,
+        GROUP
+    }
+
+    static final Slot VARIABLE = new Slot(Kind.VARIABLE, null);
+
+    final Kind kind;
+    // Аргумент атома или содержимое группы; для переменной null
+    final MonomialSum operand;
+
+    Slot(Kind kind, MonomialSum operand) {
+        this.kind = kind;
+        this.operand = operand;
+    }
+
+    boolean isAtom() {
+        return kind == Kind.SIN || kind == Kind.COS || kind == Kind.LN;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Slot)) {
+            return false;
+        }
+        Slot other = (Slot) o;
+        return kind == other.kind && Objects.equals(operand, other.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * kind.hashCode() + Objects.hashCode(operand);
+    }
+
+    String toString(String[] slotNames) {
+        switch (kind) {
+            case VARIABLE:
+                return "x";
+            case GROUP:
+                return "(" + operand.toString(slotNames) + ")";
+            default:
+                return kind.name().toLowerCase() + "(" + operand.toString(slotNames) + ")";
+        }
+    }
+}
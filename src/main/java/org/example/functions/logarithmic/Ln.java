@@ -1,8 +1,26 @@
 package org.example.functions.logarithmic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
 import org.example.functions.base.BaseFunction;
+import org.example.functions.base.MathFunction;
+import org.example.functions.base.Polynomials;
 
 public class Ln extends BaseFunction {
+    static final double LN_2 = 0.6931471805599453;
+    private static final double SQRT_2 = 1.4142135623730951;
+    static final double TWO_POW_54 = 0x1p54;
+    static final long MANTISSA_MASK = 0x000FFFFFFFFFFFFFL;
+    static final long ONE_EXPONENT_BITS = 0x3FF0000000000000L;
+
+    private static final MethodHandle EVALUATE = findEvaluate();
+
+    // Многочлены быстрого пути для atanh по уровням точности BaseFunction
+    private static final double[][] LOW_PRECISION_ATANH = lowPrecisionCoefficients();
+
     public Ln(double epsilon, int maxIterations) {
         super(epsilon, maxIterations);
     }
@@ -14,36 +32,103 @@ public class Ln extends BaseFunction {
     public double calculate(double x, double precision) {
         // Натуральный логарифм определен только для положительных чисел
         if (!validateArgs(x, precision) || x <= 0) {
-            return Double.NaN;
+            return recordNaN();
+        }
+
+        return evaluate(x, precision);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        // Точность проверяется один раз на всю пачку
+        if (!isValidPrecision(precision)) {
+            Arrays.fill(out, from, to, Double.NaN);
+            recordNaN(to - from);
+            return;
         }
 
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            out[i] = isValidArgument(x) && x > 0 ? evaluate(x, precision) : recordNaN();
+        }
+    }
+
+    // Обработчик (double)double: x -> evaluate(x, precision) без проверки аргумента.
+    // Нужен для компиляции выражений, где аргумент уже проверен; подходит только для конечных x > 0
+    public MethodHandle specialize(double precision) {
+        if (!isValidPrecision(precision)) {
+            throw new IllegalArgumentException("Точность должна быть больше 0 и меньше 1");
+        }
+        return MethodHandles.insertArguments(EVALUATE.bindTo(this), 1, precision);
+    }
+
+    private static MethodHandle findEvaluate() {
+        try {
+            return MethodHandles.lookup().findVirtual(Ln.class, "evaluate",
+                    MethodType.methodType(double.class, double.class, double.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Вычисление для уже проверенных x > 0; наследники подменяют его или reducedLn
+    protected double evaluate(double x, double precision) {
         // Особый случай: ln(1) = 0
         if (Math.abs(x - 1.0) < precision) {
             return 0.0;
         }
 
-        // Используем оптимизацию для больших чисел: ln(x) = ln(x/a) + ln(a)
-        if (x > 2.0) {
-            int k = 0;
-            double x1 = x;
+        // Субнормальные числа сначала переводим в нормальный диапазон
+        int k = 0;
+        if (x < Double.MIN_NORMAL) {
+            x *= TWO_POW_54;
+            k = -54;
+        }
+
+        // Раскладываем x = m * 2^k по битам IEEE 754: ln(x) = ln(m) + k * ln(2)
+        long bits = Double.doubleToRawLongBits(x);
+        k += (int) (bits >>> 52) - 1023;
+        double m = Double.longBitsToDouble((bits & MANTISSA_MASK) | ONE_EXPONENT_BITS);
 
-            while (x1 > 2.0) {
-                x1 /= Math.E;
-                k++;
-            }
+        // Переносим m из [1, 2) в [√½, √2], чтобы |z| не превышал 0.172
+        if (m > SQRT_2) {
+            m *= 0.5;
+            k++;
+        }
+
+        return reducedLn(m, precision) + k * LN_2;
+    }
+
+    private static double[][] lowPrecisionCoefficients() {
+        double[][] coefficients = new double[LOW_PRECISION_TIER_COUNT][];
+        for (int tier = 0; tier < LOW_PRECISION_TIER_COUNT; tier++) {
+            coefficients[tier] = PolynomialLn.coefficientsFor(lowPrecisionTierBound(tier));
+        }
+        return coefficients;
+    }
 
-            return calculate(x1, precision) + k;
+    // ln(m) для m ∈ [√½, √2] через ряд atanh: ln(m) = 2 * atanh((m - 1) / (m + 1));
+    // при грубой точности — готовый многочлен, если он укладывается в maxIterations
+    protected double reducedLn(double m, double precision) {
+        double z = (m - 1) / (m + 1);
+        int tier = lowPrecisionTier(precision);
+        if (tier >= 0 && LOW_PRECISION_ATANH[tier].length <= getMaxIterations()) {
+            recordSeries(LOW_PRECISION_ATANH[tier].length, false);
+            return 2 * z * Polynomials.horner(LOW_PRECISION_ATANH[tier], z * z);
         }
 
-        double z = (x - 1) / (x + 1);
         double z2 = z * z;
         double result = 0;
         double term = z;
 
-        for (int i = 1; i <= getMaxIterations() && Math.abs(term) > precision; i += 2) {
+        int i = 1;
+        for (; i <= getMaxIterations() && Math.abs(term) > precision; i += 2) {
             result += term;
             term = term * z2 * i / (i + 2);
         }
+        recordSeries(i / 2, Math.abs(term) > precision);
 
         return 2 * result;
     }
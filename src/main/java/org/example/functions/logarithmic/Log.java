@@ -38,7 +38,23 @@ public class Log implements MathFunction {
         return lnX / lnBase;
     }
 
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        // Сначала вся пачка натуральных логарифмов (NaN для x ≤ 0), затем деление на ln(base) на месте
+        ln.calculate(xs, from, to, precision, out);
+
+        for (int i = from; i < to; i++) {
+            out[i] /= lnBase;
+        }
+    }
+
     public double getBase() {
         return base;
     }
+
+    public Ln getLn() {
+        return ln;
+    }
 }
@@ -0,0 +1,69 @@
+package org.example.functions.logarithmic;
+
+// Логарифмы по нескольким основаниям через одно вычисление ln(x)
+public class LogFamily {
+
+    private final Ln ln;
+    private final double[] bases;
+    private final double[] inverseLnBases;
+
+    public LogFamily(Ln ln, double... bases) {
+        this(ln, ln.getEpsilon(), bases);
+    }
+
+    private LogFamily(Ln ln, double constantPrecision, double[] bases) {
+        this.ln = ln;
+        this.bases = bases.clone();
+        this.inverseLnBases = new double[bases.length];
+
+        for (int i = 0; i < bases.length; i++) {
+            double base = bases[i];
+            if (base <= 0 || base == 1) {
+                throw new IllegalArgumentException("Основание логарифма должно быть положительным и не равным 1");
+            }
+            // 1/ln(base) считаем один раз, дальше только умножение
+            inverseLnBases[i] = 1.0 / ln.calculate(base, constantPrecision);
+        }
+    }
+
+    public LogFamily(double... bases) {
+        this(new Ln(), bases);
+    }
+
+    // То же семейство, но 1/ln(основание) пересчитаны с заданной точностью, а не с epsilon Ln
+    public LogFamily withConstantPrecision(double precision) {
+        return new LogFamily(ln, precision, bases);
+    }
+
+    public double calculateLn(double x, double precision) {
+        return ln.calculate(x, precision);
+    }
+
+    // log_base(x) по уже вычисленному ln(x)
+    public double fromLn(int index, double lnX) {
+        return lnX * inverseLnBases[index];
+    }
+
+    // Заполняет out логарифмами по всем основаниям и возвращает ln(x)
+    public double calculate(double x, double precision, double[] out) {
+        double lnX = ln.calculate(x, precision);
+
+        for (int i = 0; i < inverseLnBases.length; i++) {
+            out[i] = lnX * inverseLnBases[i];
+        }
+
+        return lnX;
+    }
+
+    public int size() {
+        return bases.length;
+    }
+
+    public double getBase(int index) {
+        return bases[index];
+    }
+
+    public Ln getLn() {
+        return ln;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.functions.logarithmic;
+
+// Ln, помнящий последнее вычисление: ln, log_10, log_2, log_3 и система в одной строке
+// запрашивают ln(x) от одного и того же x. Не потокобезопасен: по экземпляру на поток
+public class MemoizedLn extends Ln {
+
+    private final Ln delegate;
+
+    private long key;
+    private double lastPrecision = Double.NaN;
+    private double value;
+
+    public MemoizedLn(Ln delegate) {
+        super(delegate.getEpsilon(), delegate.getMaxIterations());
+        this.delegate = delegate;
+    }
+
+    public MemoizedLn() {
+        this(new Ln());
+    }
+
+    @Override
+    protected double evaluate(double x, double precision) {
+        long bits = Double.doubleToRawLongBits(x);
+        if (bits != key || precision != lastPrecision) {
+            value = delegate.evaluate(x, precision);
+            key = bits;
+            lastPrecision = precision;
+        }
+        return value;
+    }
+
+    public Ln getDelegate() {
+        return delegate;
+    }
+}
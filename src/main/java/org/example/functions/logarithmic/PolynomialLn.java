@@ -0,0 +1,63 @@
+package org.example.functions.logarithmic;
+
+import org.example.functions.base.Polynomials;
+
+// Натуральный логарифм, специализированный под точность, заданную при создании.
+// После сведения m ∈ [√½, √2] имеем |z| <= (√2 - 1) / (√2 + 1), поэтому число членов ряда
+// atanh известно заранее, и ln(m) = 2z * P(z^2) считается по схеме Горнера.
+public class PolynomialLn extends Ln {
+
+    private static final double Z_MAX = (Math.sqrt(2) - 1) / (Math.sqrt(2) + 1);
+
+    private final double boundPrecision;
+    private final double[] coefficients;
+
+    public PolynomialLn(double precision, int maxIterations) {
+        super(precision, maxIterations);
+        if (!isValidPrecision(precision)) {
+            throw new IllegalArgumentException("Точность должна быть больше 0 и меньше 1");
+        }
+
+        this.boundPrecision = precision;
+        this.coefficients = coefficientsFor(precision);
+    }
+
+    public static PolynomialLn forPrecision(double precision) {
+        return new PolynomialLn(precision, 100);
+    }
+
+    // 1 / (2k + 1), пока остаток ряда 2 * z^(2k+1) / ((2k + 1) * (1 - z^2)) больше precision
+    static double[] coefficientsFor(double precision) {
+        double z2 = Z_MAX * Z_MAX;
+        double power = Z_MAX;
+        int terms = 0;
+        do {
+            terms++;
+            power *= z2;
+        } while (2 * power / ((2 * terms + 1) * (1 - z2)) > precision);
+
+        double[] result = new double[terms];
+        for (int k = 0; k < terms; k++) {
+            result[k] = 1.0 / (2 * k + 1);
+        }
+        return result;
+    }
+
+    @Override
+    protected double reducedLn(double m, double precision) {
+        if (precision < boundPrecision) {
+            return super.reducedLn(m, precision);
+        }
+
+        double z = (m - 1) / (m + 1);
+        return 2 * z * Polynomials.horner(coefficients, z * z);
+    }
+
+    public double getBoundPrecision() {
+        return boundPrecision;
+    }
+
+    public int getTermCount() {
+        return coefficients.length;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.functions.logarithmic;
+
+// Табличный натуральный логарифм по схеме Тана (P. T. P. Tang): x = 2^k * m, m ∈ [1, 2).
+// По старшим битам мантиссы берется узел c = 1 + j/N, для которого ln(c) и 1/c посчитаны заранее;
+// остаток r = (m - c) / c мал (|r| < 1/N), и ln(1 + r) добирается коротким рядом.
+public class TableLn extends Ln {
+
+    private static final int MIN_TABLE_BITS = 1;
+    private static final int MAX_TABLE_BITS = 16;
+
+    // Точность, с которой заполняется таблица
+    private static final double TABLE_PRECISION = 1e-18;
+
+    private final int tableBits;
+    private final double[] nodes;
+    private final double[] inverseNodes;
+    private final double[] lnNodes;
+
+    public TableLn(double epsilon, int maxIterations, int tableBits) {
+        super(epsilon, maxIterations);
+        if (tableBits < MIN_TABLE_BITS || tableBits > MAX_TABLE_BITS) {
+            throw new IllegalArgumentException("Число бит индекса таблицы должно быть от " + MIN_TABLE_BITS
+                    + " до " + MAX_TABLE_BITS);
+        }
+
+        int size = 1 << tableBits;
+        this.tableBits = tableBits;
+        this.nodes = new double[size];
+        this.inverseNodes = new double[size];
+        this.lnNodes = new double[size];
+
+        Ln series = new Ln(TABLE_PRECISION, 200);
+        for (int j = 0; j < size; j++) {
+            // 1 + j/N точно представимо и совпадает со старшими битами мантиссы
+            double c = 1.0 + (double) j / size;
+            nodes[j] = c;
+            inverseNodes[j] = 1.0 / c;
+            lnNodes[j] = series.calculate(c, TABLE_PRECISION);
+        }
+    }
+
+    public TableLn(int tableBits) {
+        this(1e-6, 100, tableBits);
+    }
+
+    public TableLn() {
+        this(7);
+    }
+
+    @Override
+    protected double evaluate(double x, double precision) {
+        // Особый случай: ln(1) = 0, как и в Ln
+        if (Math.abs(x - 1.0) < precision) {
+            return 0.0;
+        }
+
+        int k = 0;
+        if (x < Double.MIN_NORMAL) {
+            x *= TWO_POW_54;
+            k = -54;
+        }
+
+        long bits = Double.doubleToRawLongBits(x);
+        k += (int) (bits >>> 52) - 1023;
+        double m = Double.longBitsToDouble((bits & MANTISSA_MASK) | ONE_EXPONENT_BITS);
+        int j = (int) ((bits & MANTISSA_MASK) >>> (52 - tableBits));
+
+        // m - c вычисляется точно, так как у m и c общие старшие биты
+        double r = (m - nodes[j]) * inverseNodes[j];
+
+        // ln(1 + r) = r - r^2/2 + r^3/3 - ...; при |r| < 1/N нужно всего несколько членов
+        double log1p = 0.0;
+        double power = r;
+        int n = 1;
+        for (; n <= getMaxIterations() && Math.abs(power) > precision; n++) {
+            log1p += power / n;
+            power *= -r;
+        }
+        recordSeries(n - 1, Math.abs(power) > precision);
+
+        return lnNodes[j] + log1p + k * LN_2;
+    }
+
+    public int getTableBits() {
+        return tableBits;
+    }
+
+    // Память под узлы, обратные значения и логарифмы узлов в байтах
+    public long getTableBytes() {
+        return 3L * nodes.length * Double.BYTES;
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.functions.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Счетчики сходимости рядов одной функции: сколько членов понадобилось, сколько рядов
+// оборвано по maxIterations и сколько вызовов вернули NaN.
+// Включается свойством -Dorg.example.metrics=true; флаг static final, поэтому при выключенных
+// метриках JIT выбрасывает проверки целиком и вычисления не платят ничего.
+public class ConvergenceMetrics implements ConvergenceMetricsMBean {
+
+    public static final String ENABLED_PROPERTY = "org.example.metrics";
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    // Отдельные корзины для 0..MAX_TRACKED_ITERATIONS - 1 членов и общая для остальных
+    public static final int MAX_TRACKED_ITERATIONS = 64;
+
+    static final String DOMAIN = "org.example.functions";
+
+    private static final ConcurrentMap<String, ConvergenceMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String functionName;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder totalIterations = new LongAdder();
+    private final LongAdder truncations = new LongAdder();
+    private final LongAdder nanResults = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[MAX_TRACKED_ITERATIONS + 1];
+
+    ConvergenceMetrics(String functionName) {
+        this.functionName = functionName;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    // Один набор счетчиков на имя функции; при первом обращении он публикуется в платформенном MBeanServer
+    public static ConvergenceMetrics forFunction(String functionName) {
+        return REGISTRY.computeIfAbsent(functionName, name -> {
+            ConvergenceMetrics metrics = new ConvergenceMetrics(name);
+            metrics.register();
+            return metrics;
+        });
+    }
+
+    public static ObjectName objectName(String functionName) {
+        try {
+            return new ObjectName(DOMAIN + ":type=ConvergenceMetrics,name=" + ObjectName.quote(functionName));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Некорректное имя функции: " + functionName, e);
+        }
+    }
+
+    private void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName(functionName));
+        } catch (JMException e) {
+            // Без JMX счетчики остаются доступны через snapshot()
+        }
+    }
+
+    public void recordSeries(int iterations, boolean truncated) {
+        evaluations.increment();
+        totalIterations.add(iterations);
+        histogram[Math.min(iterations, MAX_TRACKED_ITERATIONS)].increment();
+        if (truncated) {
+            truncations.increment();
+        }
+    }
+
+    public void recordNaN() {
+        nanResults.increment();
+    }
+
+    public void recordNaN(long count) {
+        nanResults.add(count);
+    }
+
+    public ConvergenceSnapshot snapshot() {
+        return new ConvergenceSnapshot(functionName, evaluations.sum(), totalIterations.sum(),
+                truncations.sum(), nanResults.sum(), getIterationHistogram());
+    }
+
+    @Override
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    @Override
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    @Override
+    public long getTotalIterations() {
+        return totalIterations.sum();
+    }
+
+    @Override
+    public double getMeanIterations() {
+        return snapshot().getMeanIterations();
+    }
+
+    @Override
+    public long getTruncations() {
+        return truncations.sum();
+    }
+
+    @Override
+    public long getNaNResults() {
+        return nanResults.sum();
+    }
+
+    @Override
+    public long[] getIterationHistogram() {
+        long[] counts = new long[histogram.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        evaluations.reset();
+        totalIterations.reset();
+        truncations.reset();
+        nanResults.reset();
+        for (LongAdder bucket : histogram) {
+            bucket.reset();
+        }
+    }
+}
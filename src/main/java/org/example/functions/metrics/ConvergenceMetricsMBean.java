@@ -0,0 +1,22 @@
+package org.example.functions.metrics;
+
+// JMX-интерфейс счетчиков сходимости одной функции
+public interface ConvergenceMetricsMBean {
+
+    String getFunctionName();
+
+    long getEvaluations();
+
+    long getTotalIterations();
+
+    double getMeanIterations();
+
+    long getTruncations();
+
+    long getNaNResults();
+
+    // histogram[i] — число рядов, сошедшихся ровно за i членов; последний элемент собирает все остальное
+    long[] getIterationHistogram();
+
+    void reset();
+}
@@ -0,0 +1,60 @@
+package org.example.functions.metrics;
+
+import java.util.Arrays;
+
+// Снимок счетчиков сходимости на момент вызова
+public class ConvergenceSnapshot {
+
+    private final String functionName;
+    private final long evaluations;
+    private final long totalIterations;
+    private final long truncations;
+    private final long nanResults;
+    private final long[] histogram;
+
+    public ConvergenceSnapshot(String functionName, long evaluations, long totalIterations,
+                               long truncations, long nanResults, long[] histogram) {
+        this.functionName = functionName;
+        this.evaluations = evaluations;
+        this.totalIterations = totalIterations;
+        this.truncations = truncations;
+        this.nanResults = nanResults;
+        this.histogram = histogram.clone();
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    // Число просуммированных рядов
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getTotalIterations() {
+        return totalIterations;
+    }
+
+    public double getMeanIterations() {
+        return evaluations == 0 ? 0.0 : (double) totalIterations / evaluations;
+    }
+
+    // Ряды, остановленные по maxIterations до достижения точности
+    public long getTruncations() {
+        return truncations;
+    }
+
+    public long getNaNResults() {
+        return nanResults;
+    }
+
+    public long[] getIterationHistogram() {
+        return histogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: evaluations=%d, meanIterations=%.2f, truncations=%d, nan=%d, histogram=%s",
+                functionName, evaluations, getMeanIterations(), truncations, nanResults, Arrays.toString(histogram));
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.functions.system;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.example.functions.base.MathFunction;
+
+// SystemFunction, скомпилированная под одну точность (см. SystemFunction.compile).
+// Для другой точности вызов уходит в исходный граф объектов
+public class CompiledSystemFunction implements MathFunction {
+
+    private final SystemFunction source;
+    private final double precision;
+    private final DoubleUnaryOperator evaluator;
+
+    CompiledSystemFunction(SystemFunction source, double precision, DoubleUnaryOperator evaluator) {
+        this.source = source;
+        this.precision = precision;
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    public double calculate(double x, double precision) {
+        if (precision != this.precision) {
+            return source.calculate(x, precision);
+        }
+        return evaluate(x);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        if (precision != this.precision) {
+            source.calculate(xs, from, to, precision, out);
+            return;
+        }
+
+        MathFunction.checkBatchBounds(xs, from, to, out);
+        for (int i = from; i < to; i++) {
+            out[i] = evaluate(xs[i]);
+        }
+    }
+
+    // Вычисление со связанной точностью
+    public double evaluate(double x) {
+        return evaluator.applyAsDouble(x);
+    }
+
+    public double getPrecision() {
+        return precision;
+    }
+
+    public SystemFunction getSource() {
+        return source;
+    }
+}
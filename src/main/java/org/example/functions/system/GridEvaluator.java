@@ -0,0 +1,329 @@
+package org.example.functions.system;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.trigonometric.Sin;
+
+// Вычисление функции на сетке за O(1) на узел.
+// Равномерная сетка x_i = start + i * step:
+//   sin и cos следующего узла получаются из текущих поворотом на шаг:
+//   sin(x + h) = sin x + (α sin x + β cos x), cos(x + h) = cos x + (α cos x - β sin x),
+//   где α = -2 sin²(h/2), β = sin h;
+//   ln(x + h) = ln x + ln(1 + h/x), приращение — короткий ряд 2·atanh(h / (2x + h)), сумма с компенсацией.
+// Геометрическая сетка x_i = start * ratio^i: ln x_i = ln x_a + (i - a) · ln ratio от опорного узла a.
+// Каждые anchorInterval(precision) узлов (по глобальному индексу, поэтому результат не зависит от того,
+// какими кусками обходится сетка) значения пересчитываются полными рядами Sin и Ln,
+// чтобы накопленная ошибка оставалась в пределах precision.
+// Узлы вне поддерживаемой ветви считаются исходной функцией
+public class GridEvaluator {
+
+    // Функция от уже вычисленных sin(x) и cos(x) с теми же проверками на полюсах, что в Tan, Cot, Sec и Csc
+    public interface TrigFormula {
+        double apply(double sinX, double cosX, double precision);
+    }
+
+    // Функция от уже вычисленного ln(x), x > 0
+    public interface LnFormula {
+        double apply(double lnX, double precision);
+    }
+
+    public static final TrigFormula SIN = (sinX, cosX, precision) -> sinX;
+    public static final TrigFormula COS = (sinX, cosX, precision) -> cosX;
+    public static final TrigFormula TAN = (sinX, cosX, precision) ->
+            Math.abs(cosX) < precision ? Double.NaN : sinX / cosX;
+    public static final TrigFormula COT = (sinX, cosX, precision) ->
+            Math.abs(sinX) < precision ? Double.NaN : cosX / sinX;
+    public static final TrigFormula SEC = (sinX, cosX, precision) ->
+            Math.abs(cosX) < precision ? Double.NaN : 1.0 / cosX;
+    public static final TrigFormula CSC = (sinX, cosX, precision) ->
+            Math.abs(sinX) < precision ? Double.NaN : 1.0 / sinX;
+    public static final TrigFormula SYSTEM = SystemFunction::fusedNegative;
+
+    public static final LnFormula LN = (lnX, precision) -> lnX;
+
+    // Больше этого между опорными точками не делается шагов, даже если точность позволяет
+    private static final int MAX_ANCHOR_INTERVAL = 1024;
+
+    // Ошибка одного шага от округления: несколько ulp(1)
+    private static final double STEP_ROUNDING = 4 * Math.ulp(1.0);
+
+    // Ошибка приращения за шаг в долях precision: за MAX_ANCHOR_INTERVAL шагов набегает не больше precision / 10
+    private static final double INCREMENT_ACCURACY = 1e-4;
+
+    // При |h / x| больше этого ряд для ln(1 + h/x) сходится медленно, и узел считается полным Ln
+    private static final double MAX_LN_INCREMENT = 0.125;
+
+    private static final double HALF_PI = Math.PI / 2;
+
+    // 1/3, 1/5, 1/7, ...; при |z| ≤ 1/17 этого хватает для любой точности double
+    private static final double[] INVERSE_ODD = inverseOdd(16);
+
+    private final MathFunction function;
+    private final Sin sin;
+    private final TrigFormula trig;
+    // true — рекуррентность для sin и cos при всех x, false — только при x ≤ 0, как у системы
+    private final boolean trigForAllX;
+    private final Ln ln;
+    private final LnFormula lnFormula;
+
+    private GridEvaluator(MathFunction function, Sin sin, TrigFormula trig, boolean trigForAllX,
+                          Ln ln, LnFormula lnFormula) {
+        this.function = function;
+        this.sin = sin;
+        this.trig = trig;
+        this.trigForAllX = trigForAllX;
+        this.ln = ln;
+        this.lnFormula = lnFormula;
+    }
+
+    // Тригонометрическая функция, заданная формулой от sin и cos
+    public static GridEvaluator of(Sin sin, TrigFormula formula) {
+        MathFunction function = (x, precision) -> formula.apply(
+                sin.calculate(x, precision), sin.calculate(x + HALF_PI, precision), precision);
+        return new GridEvaluator(function, sin, formula, true, null, null);
+    }
+
+    // Функция от ln(x) для x > 0; при x ≤ 0 результат NaN, как у Ln
+    public static GridEvaluator of(Ln ln, LnFormula formula) {
+        MathFunction function = (x, precision) -> x > 0 ? formula.apply(ln.calculate(x, precision), precision)
+                : ln.calculate(x, precision);
+        return new GridEvaluator(function, null, null, false, ln, formula);
+    }
+
+    // log_b(x) = ln(x) / ln(b) с тем же ln(b), что у Log
+    public static GridEvaluator of(Log log) {
+        Ln ln = log.getLn();
+        double lnBase = ln.calculate(log.getBase(), ln.getEpsilon());
+        return new GridEvaluator(log, null, null, false, ln, (lnX, precision) -> lnX / lnBase);
+    }
+
+    // Для x ≤ 0 совмещенная формула системы по sin и cos, для x > 0 — по ln.
+    // У композиции из готовых функций рекуррентность неприменима, тогда все узлы считаются системой
+    public static GridEvaluator of(SystemFunction function) {
+        if (function.getSin() == null) {
+            return new GridEvaluator(function, null, null, false, null, null);
+        }
+        return new GridEvaluator(function, function.getSin(), SYSTEM, false,
+                function.getLogs().getLn(), function::fusedPositiveFromLn);
+    }
+
+    // Известные функции получают рекуррентность, остальные вычисляются пачками через calculate
+    public static GridEvaluator of(MathFunction function) {
+        if (function instanceof SystemFunction) {
+            return of((SystemFunction) function);
+        }
+        if (function instanceof Sin) {
+            return of((Sin) function, SIN);
+        }
+        if (function instanceof Ln) {
+            return of((Ln) function, LN);
+        }
+        if (function instanceof Log) {
+            return of((Log) function);
+        }
+        return new GridEvaluator(function, null, null, false, null, null);
+    }
+
+    // Число шагов между опорными точками: ошибка опоры (precision / 4) плюс накопленная ошибка
+    // шагов не превышает precision / 2
+    static int anchorInterval(double precision) {
+        double perStep = STEP_ROUNDING + precision * INCREMENT_ACCURACY;
+        return (int) Math.max(1, Math.min(MAX_ANCHOR_INTERVAL, 0.25 * precision / perStep));
+    }
+
+    // out[0..count) = f(start + i * step), i = from .. from + count - 1
+    public void evaluate(double start, double step, long from, int count, double precision, double[] out) {
+        checkCount(count, out);
+        if ((sin == null && ln == null) || !isValidPrecision(precision) || !Double.isFinite(step)) {
+            evaluateDirect(start, step, from, count, precision, out);
+            return;
+        }
+
+        int interval = anchorInterval(precision);
+        double incrementPrecision = precision * INCREMENT_ACCURACY;
+        double alpha = 0;
+        double beta = 0;
+        if (sin != null) {
+            // Постоянные поворота входят в каждый шаг, поэтому считаются с запасом точности
+            double halfStepSin = sin.calculate(0.5 * step, incrementPrecision * INCREMENT_ACCURACY);
+            alpha = -2 * halfStepSin * halfStepSin;
+            beta = sin.calculate(step, incrementPrecision * INCREMENT_ACCURACY);
+        }
+
+        // Сетка обходится блоками между опорными точками. Способ вычисления выбирается по целому блоку,
+        // а не по его пересечению с [from, from + count), чтобы не зависеть от разбиения на куски
+        long end = from + count;
+        double[] cosBuffer = null;
+        for (long block = from - Math.floorMod(from, interval); block < end; block += interval) {
+            double first = start + block * step;
+            double last = start + (block + interval) * step;
+            long runFrom = Math.max(block, from);
+            int offset = (int) (runFrom - from);
+            int skip = (int) (runFrom - block);
+            int length = (int) (Math.min(block + interval, end) - runFrom);
+
+            if (sin != null && Double.isFinite(first) && Double.isFinite(last)
+                    && (trigForAllX || (first <= 0 && last <= 0))) {
+                if (cosBuffer == null) {
+                    cosBuffer = new double[Math.min(interval, count)];
+                }
+                trigRun(first, alpha, beta, skip, length, precision, out, offset, cosBuffer);
+            } else if (ln != null && first > 0 && last > 0 && Double.isFinite(first) && Double.isFinite(last)
+                    && Math.abs(step) <= MAX_LN_INCREMENT * Math.min(first, last)) {
+                lnRun(start, step, block, skip, length, precision, incrementPrecision, out, offset);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = function.calculate(start + (runFrom + i) * step, precision);
+                }
+            }
+        }
+    }
+
+    // Блок, где везде работает рекуррентность для sin и cos; первые skip узлов проходятся без записи.
+    // Как и в lnRun, сначала только поворот (sin в out, cos в cosBuffer), затем формула отдельным проходом
+    private void trigRun(double x, double alpha, double beta, int skip, int length, double precision,
+                         double[] out, int offset, double[] cosBuffer) {
+        double anchorPrecision = 0.25 * precision;
+        double sinX = sin.calculate(x, anchorPrecision);
+        double cosX = sin.calculate(x + HALF_PI, anchorPrecision);
+        int total = skip + length;
+        for (int i = 0; i < total; i++) {
+            if (i >= skip) {
+                out[offset + i - skip] = sinX;
+                cosBuffer[i - skip] = cosX;
+            }
+            double sinDelta = alpha * sinX + beta * cosX;
+            double cosDelta = alpha * cosX - beta * sinX;
+            sinX += sinDelta;
+            cosX += cosDelta;
+        }
+
+        if (trig != SIN) {
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = trig.apply(out[offset + i], cosBuffer[i], precision);
+            }
+        }
+    }
+
+    // Блок положительных x; ln(x) = lnX - compensation (суммирование Кэхэна).
+    // ln((x + dx) / x) = 2 (z + z³/3 + z⁵/5 + ...), z = dx / (2x + dx). Число членов выбирается один раз
+    // на блок по наибольшему |z| (у меньшего из концов), так что внутри цикла одно деление и без ветвлений
+    private void lnRun(double start, double step, long block, int skip, int length, double precision,
+                       double incrementPrecision, double[] out, int offset) {
+        double x = start + block * step;
+        double smallest = Math.min(x, start + (block + skip + length) * step);
+        int terms = seriesTerms(Math.abs(step) / (2 * smallest - Math.abs(step)), incrementPrecision);
+
+        double lnX = ln.calculate(x, 0.25 * precision);
+        double compensation = 0;
+        int total = skip + length;
+        for (int i = 0; i < total; i++) {
+            if (i >= skip) {
+                out[offset + i - skip] = lnX;
+            }
+
+            // Приращение по фактическому следующему узлу, а не по step, чтобы не расходиться с сеткой
+            double next = start + (block + i + 1) * step;
+            double dx = next - x;
+            double z = dx / (x + next);
+            double z2 = z * z;
+            double power = z;
+            double series = z;
+            for (int k = 0; k < terms; k++) {
+                power *= z2;
+                series += power * INVERSE_ODD[k];
+            }
+
+            double y = 2 * series - compensation;
+            double sum = lnX + y;
+            compensation = (sum - lnX) - y;
+            lnX = sum;
+            x = next;
+        }
+
+        // Формула применяется отдельным проходом: в цикле выше остается только цепочка сумм,
+        // а узлы здесь независимы друг от друга
+        if (lnFormula != LN) {
+            for (int i = offset; i < offset + length; i++) {
+                out[i] = lnFormula.apply(out[i], precision);
+            }
+        }
+    }
+
+    // Сколько членов после первого нужно, чтобы отброшенный остаток ряда для |z| ≤ maxZ был меньше precision
+    private static int seriesTerms(double maxZ, double precision) {
+        double z2 = maxZ * maxZ;
+        double power = maxZ;
+        int terms = 0;
+        while (terms < INVERSE_ODD.length && power > precision) {
+            power *= z2;
+            terms++;
+        }
+        return terms;
+    }
+
+    // out[0..count) = f(start * ratio^i), i = from .. from + count - 1; start > 0, ratio > 0
+    public void evaluateGeometric(double start, double ratio, long from, int count, double precision,
+                                  double[] out) {
+        checkCount(count, out);
+        if (!(start > 0) || !(ratio > 0) || !Double.isFinite(start) || !Double.isFinite(ratio)) {
+            throw new IllegalArgumentException("Начало и знаменатель геометрической сетки должны быть положительными");
+        }
+        if (ln == null || !isValidPrecision(precision)) {
+            for (int i = 0; i < count; i++) {
+                out[i] = function.calculate(geometricX(start, ratio, from + i), precision);
+            }
+            return;
+        }
+
+        int interval = anchorInterval(precision);
+        double lnRatio = ln.calculate(ratio, precision * INCREMENT_ACCURACY);
+        long anchorIndex = -1;
+        double anchorLn = 0;
+        for (int i = 0; i < count; i++) {
+            long index = from + i;
+            long anchor = index - Math.floorMod(index, interval);
+            if (anchor != anchorIndex) {
+                anchorIndex = anchor;
+                anchorLn = ln.calculate(geometricX(start, ratio, anchor), 0.25 * precision);
+            }
+
+            // Узел вне диапазона double (переполнение или ноль) — как у исходной функции
+            double x = geometricX(start, ratio, index);
+            out[i] = x > 0 && x < Double.POSITIVE_INFINITY
+                    ? lnFormula.apply(anchorLn + (index - anchor) * lnRatio, precision)
+                    : function.calculate(x, precision);
+        }
+    }
+
+    public static double geometricX(double start, double ratio, long index) {
+        return start * Math.pow(ratio, index);
+    }
+
+    private static double[] inverseOdd(int count) {
+        double[] inverse = new double[count];
+        for (int k = 0; k < count; k++) {
+            inverse[k] = 1.0 / (2 * k + 3);
+        }
+        return inverse;
+    }
+
+    private static boolean isValidPrecision(double precision) {
+        return precision > 0 && precision < 1;
+    }
+
+    private static void checkCount(int count, double[] out) {
+        if (count < 0 || count > out.length) {
+            throw new IndexOutOfBoundsException("Некорректное число узлов: " + count);
+        }
+    }
+
+    private void evaluateDirect(double start, double step, long from, int count, double precision, double[] out) {
+        double[] xs = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = start + (from + i) * step;
+        }
+        function.calculate(xs, 0, count, precision, out);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.functions.system;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.LogFamily;
+
+// SystemFunction, в которой sin/cos и ln считаются с точностью, выведенной PrecisionPlanner для каждого x
+// (см. SystemFunction.planned). Точки, где заданная точность результата недостижима, считаются
+// с наибольшей точностью компонент и учитываются в getIllConditionedCount. Множители 1/ln(основание)
+// пересчитаны с MIN_COMPONENT_PRECISION, а их фактическая ошибка входит в бюджет каждой точки x > 0
+public class PlannedSystemFunction implements MathFunction {
+
+    private final SystemFunction source;
+    private final LongAdder illConditioned = new LongAdder();
+    // Относительная ошибка множителей 1/ln(основание): если Ln не сошелся за maxIterations, она больше расчетной
+    private final double logBaseError;
+
+    PlannedSystemFunction(SystemFunction source) {
+        this.source = source;
+        this.logBaseError = logBaseError(source.getLogs());
+    }
+
+    @Override
+    public double calculate(double x, double precision) {
+        double budget = PrecisionPlanner.budget(x, precision, logBaseError);
+        if (!PrecisionPlanner.isAttainableBudget(budget)) {
+            illConditioned.increment();
+        }
+        return source.calculateFused(x, PrecisionPlanner.precisionFromBudget(budget, precision), precision);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        for (int i = from; i < to; i++) {
+            out[i] = calculate(xs[i], precision);
+        }
+    }
+
+    // false, если в точке x заданная точность недостижима с этими компонентами
+    public boolean isAttainable(double x, double precision) {
+        return PrecisionPlanner.isAttainableBudget(PrecisionPlanner.budget(x, precision, logBaseError));
+    }
+
+    // Сколько вычислений пришлось на плохо обусловленные точки
+    public long getIllConditionedCount() {
+        return illConditioned.sum();
+    }
+
+    public SystemFunction getSource() {
+        return source;
+    }
+
+    // Ошибка 1/ln(b) измеряется один раз по эталону Math.log, но не меньше расчетной для MIN_COMPONENT_PRECISION
+    private static double logBaseError(LogFamily logs) {
+        double error = PrecisionPlanner.PLANNED_LOG_BASE_ERROR;
+        for (int i = 0; i < logs.size(); i++) {
+            double inverse = logs.fromLn(i, 1.0);
+            error = Math.max(error, Math.abs(inverse * Math.log(logs.getBase(i)) - 1) + Math.ulp(1.0));
+        }
+        return error;
+    }
+}
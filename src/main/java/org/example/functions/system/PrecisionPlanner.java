@@ -0,0 +1,143 @@
+package org.example.functions.system;
+
+// Точность компонент SystemFunction под заданную точность результата.
+// Формула усиливает ошибку входов по-разному: для x ≤ 0 через f(s, c) = c^4 + 1 + (c - 1) / s^2 - s^2 / c^3
+// (s = sin(x), c = cos(x)), для x > 0 через f(L) = A^2 * L^2 (L = ln(x)). Оценка сверху числа обусловленности
+// K(x) = |∂f/∂s| + |∂f/∂c| (или |∂f/∂L|) берется по расстоянию до полюсов без вычисления рядов, и компоненты
+// считаются с точностью (precision - ошибка округления формулы) / K. Где K < 1, ряды останавливаются раньше;
+// где требуемая точность компонент недостижима в double, точка помечается как плохо обусловленная.
+// Для x > 0 в бюджет входит и относительная ошибка множителей 1/ln(основание) из LogFamily: при большом |ln(x)|
+// именно она, а не ряд, ограничивает точность результата
+public final class PrecisionPlanner {
+
+    // Точнее этого компоненты не считаются: дальше точность ограничена округлением double
+    public static final double MIN_COMPONENT_PRECISION = 1e-15;
+
+    // Грубее этого компоненты не считаются, даже если результат почти не зависит от них
+    public static final double MAX_COMPONENT_PRECISION = 1e-1;
+
+    // Округления при вычислении формулы: число ulp от наибольшего промежуточного значения
+    private static final double FORMULA_ROUNDING = 16 * Math.ulp(1.0);
+
+    // Ln обрывает ряд atanh на первом члене меньше precision и удваивает сумму:
+    // фактическая ошибка ln(x) доходит до ~2.1 precision
+    private static final double LN_ERROR_FACTOR = 2.5;
+    private static final double INVERSE_LN_ERROR_FACTOR = 1 / LN_ERROR_FACTOR;
+
+    private static final double HALF_PI = Math.PI / 2;
+    private static final double LN2 = Math.log(2);
+    private static final double LN3 = Math.log(3);
+
+    // f(L) = A^2 * L^2, A = (1 / ln 10 - 1) * ln 2 / ln 3
+    private static final double A_SQUARED = Math.pow((1 / Math.log(10) - 1) * LN2 / LN3, 2);
+    private static final double INVERSE_A_SQUARED = 1 / A_SQUARED;
+
+    // Относительная ошибка результата на единицу относительной ошибки 1/ln(b): A ∝ (1/ln 10 - 1) / ln 3 * ln 2,
+    // поэтому 2 * (i / (1 - i) + 2) при i = 1/ln 10, то есть ≈ 5.5
+    private static final double LOG_BASE_SENSITIVITY = 6;
+
+    // Относительная ошибка 1/ln(b), когда множители посчитаны с MIN_COMPONENT_PRECISION (см. SystemFunction.planned)
+    public static final double PLANNED_LOG_BASE_ERROR = LN_ERROR_FACTOR * MIN_COMPONENT_PRECISION / LN2;
+
+    private PrecisionPlanner() {
+    }
+
+    // Точность, с которой нужно считать sin/cos или ln в точке x, чтобы ошибка результата не превысила precision.
+    // Множители 1/ln(основание) считаются такими, как их строит SystemFunction.planned
+    public static double componentPrecision(double x, double precision) {
+        return precisionFromBudget(budget(x, precision, PLANNED_LOG_BASE_ERROR), precision);
+    }
+
+    // false, если даже MIN_COMPONENT_PRECISION не обеспечивает точность результата
+    public static boolean isAttainable(double x, double precision) {
+        return isAttainableBudget(budget(x, precision, PLANNED_LOG_BASE_ERROR));
+    }
+
+    // Допустимая ошибка компонент без ограничений; NaN, если точка не планируется
+    // (неверная точность, бесконечный x, x за пределами точного сведения к [-π/4, π/4]).
+    // logBaseError — относительная ошибка множителей 1/ln(основание)
+    static double budget(double x, double precision, double logBaseError) {
+        if (!(precision > 0 && precision < 1) || !Double.isFinite(x)) {
+            return Double.NaN;
+        }
+        if (x <= 0) {
+            return SingularityIndex.isReducible(x) ? negativeBudget(x, precision) : Double.NaN;
+        }
+        return positiveBudget(x, precision, logBaseError);
+    }
+
+    static double precisionFromBudget(double budget, double precision) {
+        if (Double.isNaN(budget)) {
+            return precision;
+        }
+        return Math.min(Math.max(budget, MIN_COMPONENT_PRECISION), MAX_COMPONENT_PRECISION);
+    }
+
+    static boolean isAttainableBudget(double budget) {
+        return !(budget < MIN_COMPONENT_PRECISION);
+    }
+
+    // Допустимая ошибка s и c для x ≤ 0; отрицательна, если округление формулы уже съедает precision
+    private static double negativeBudget(double x, double precision) {
+        double k = SingularityIndex.nearestQuarterTurn(x);
+        double r = Math.abs(SingularityIndex.offsetFromQuarterTurn(x, k));
+
+        // Расстояния до ближайших нулей sin и cos; при четном k ближе нуль синуса
+        boolean sinNear = k % 2 == 0;
+        double sinDistance = sinNear ? r : HALF_PI - r;
+        double cosDistance = sinNear ? HALF_PI - r : r;
+
+        // sin(t) ≥ t - t^3 / 6 и sin(t) ≤ t при 0 ≤ t ≤ π/2
+        double sMin = lowerSin(sinDistance);
+        double cMin = lowerSin(cosDistance);
+        double sMax = Math.min(1, sinDistance);
+        double cMax = Math.min(1, cosDistance);
+        if (!(sMin > 0 && cMin > 0)) {
+            return -1;
+        }
+
+        // 1 - cos(x) = 2 sin^2(x / 2) ≤ r^2 / 2 возле кратных 2π, иначе ≤ 2
+        double oneMinusCos = k % 4 == 0 ? r * r / 2 : 2;
+
+        double inverseS = 1 / sMin;
+        double inverseC = 1 / cMin;
+        double inverseS2 = inverseS * inverseS;
+        double inverseC3 = inverseC * inverseC * inverseC;
+        // ∂f/∂s = 2 (1 - c) / s^3 - 2 s / c^3,  ∂f/∂c = 4 c^3 + 1 / s^2 + 3 s^2 / c^4
+        double dfds = 2 * oneMinusCos * inverseS2 * inverseS + 2 * sMax * inverseC3;
+        double dfdc = 4 * cMax * cMax * cMax + inverseS2 + 3 * sMax * sMax * inverseC3 * inverseC;
+
+        // Наибольшие промежуточные значения формулы: 1 / s^2 и s^2 / c^3
+        double rounding = FORMULA_ROUNDING * Math.max(1, Math.max(inverseS2, sMax * sMax * inverseC3));
+        // cos(x) считается как sin(x + π/2), а сумма округляется до ulp
+        return (precision - rounding) / (dfds + dfdc) - 2 * Math.ulp(Math.abs(x) + HALF_PI);
+    }
+
+    // Допустимая ошибка L = ln(x) для x > 0: A^2 * (2 |L| δ + δ^2) ≤ precision - округление - ошибка множителей
+    private static double positiveBudget(double x, double precision, double logBaseError) {
+        // |ln(x)| ≤ |x - 1| / min(x, 1) и |ln(x)| ≤ (|e| + 1) ln 2 для x ∈ [2^e, 2^(e+1))
+        double distance = Math.abs(x - 1);
+        double lnMax = Math.min(distance / Math.min(x, 1), (Math.abs(Math.getExponent(x)) + 1) * LN2);
+
+        // Ошибка множителей относительна и растет вместе с f, округление — не меньше ulp(1)
+        double valueMax = A_SQUARED * lnMax * lnMax;
+        double rounding = FORMULA_ROUNDING * Math.max(1, valueMax) + LOG_BASE_SENSITIVITY * logBaseError * valueMax;
+        double bound = (precision - rounding) * INVERSE_A_SQUARED;
+        if (!(bound > 0)) {
+            return -1;
+        }
+        double budget = bound / (lnMax + Math.sqrt(lnMax * lnMax + bound));
+
+        // Проверки |log_2(x)|, |log_3(x)| < precision не должны менять исход из-за более грубого L:
+        // ослабление допускается, только пока |L| заведомо дальше порога precision * ln 3 на эту величину
+        if (budget > precision) {
+            double lnMin = distance / Math.max(x, 1);
+            budget = Math.min(budget, Math.max(precision, lnMin - precision * LN3));
+        }
+        return budget * INVERSE_LN_ERROR_FACTOR;
+    }
+
+    private static double lowerSin(double t) {
+        return t - t * t * t / 6;
+    }
+}
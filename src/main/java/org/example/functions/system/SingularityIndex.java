@@ -0,0 +1,143 @@
+package org.example.functions.system;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Особые точки системы, известные заранее: для x ≤ 0 полюса sec, tan, cot и csc лежат в кратных π/2,
+// для x > 0 деление на log_2(x) и log_3(x) запрещено возле x = 1.
+// SystemFunction отбрасывает такие x, не вычисляя рядов. Окрестность берется с запасом внутрь:
+// всё, что классифицировано как особая точка, гарантированно дало бы NaN и при полном вычислении,
+// а граничная полоса по-прежнему решается проверками на precision в самих формулах
+public final class SingularityIndex {
+
+    public enum Kind {
+        REGULAR,
+        // |x - kπ/2| мало: |sin(x)| или |cos(x)| меньше precision
+        TRIG_POLE,
+        // x близко к 1: |log_3(x)| меньше precision
+        LOG_ZERO
+    }
+
+    // Ширина окрестности в долях от той, где проверки в формулах срабатывают наверняка
+    private static final double SAFETY = 0.99;
+
+    // π/2 в виде суммы двух double; x - k * PIO2_HI вычисляется через fma без округления
+    private static final double PIO2_HI = 1.5707963267948966;
+    private static final double PIO2_LO = 6.123233995736766e-17;
+    private static final double TWO_OVER_PI = 2 / Math.PI;
+
+    // Дальше номер полюса не помещается в точное произведение, такие x не классифицируются
+    private static final double MAX_ABS_X = 0x1p20 * PIO2_HI;
+
+    private static final double LN3 = Math.log(3);
+
+    private SingularityIndex() {
+    }
+
+    public static Kind classify(double x, double precision) {
+        if (!(precision > 0 && precision < 1)) {
+            return Kind.REGULAR;
+        }
+        if (x <= 0) {
+            if (x < -MAX_ABS_X) {
+                return Kind.REGULAR;
+            }
+            // Расстояние со знаком до ближайшего кратного π/2
+            double k = nearestQuarterTurn(x);
+            double offset = offsetFromQuarterTurn(x, k);
+            return Math.abs(offset) < trigRadius(precision, k * PIO2_HI) ? Kind.TRIG_POLE : Kind.REGULAR;
+        }
+        return Math.abs(x - 1) < logRadius(precision) ? Kind.LOG_ZERO : Kind.REGULAR;
+    }
+
+    public static boolean isSingular(double x, double precision) {
+        return classify(x, precision) != Kind.REGULAR;
+    }
+
+    // Отрезки внутри [start, end], на которых система заведомо равна NaN, по возрастанию.
+    // Пакетный вызывающий может пропустить их целиком: для каждого x внутри отрезка isSingular истинно
+    public static List<Range> singularRanges(double start, double end, double precision) {
+        List<Range> ranges = new ArrayList<>();
+        if (!(precision > 0 && precision < 1) || !(start <= end)) {
+            return ranges;
+        }
+
+        double negativeEnd = Math.min(end, 0);
+        if (start <= negativeEnd && start >= -MAX_ABS_X) {
+            long first = (long) Math.ceil(start * TWO_OVER_PI) - 1;
+            long last = (long) Math.floor(negativeEnd * TWO_OVER_PI) + 1;
+            for (long k = first; k <= Math.min(last, 0); k++) {
+                double pole = k * PIO2_HI + k * PIO2_LO;
+                // Узел kπ/2 округлен, поэтому отрезок сужается еще на пару ulp
+                double radius = trigRadius(precision, pole) - 2 * Math.ulp(pole);
+                addClipped(ranges, Math.nextUp(pole - radius), Math.nextDown(pole + radius),
+                        start, negativeEnd);
+            }
+        }
+
+        double radius = logRadius(precision);
+        addClipped(ranges, Math.max(Math.nextUp(1 - radius), Double.MIN_VALUE), Math.nextDown(1 + radius),
+                start, end);
+        return ranges;
+    }
+
+    // Номер k ближайшего к x кратного kπ/2; смещение от него точно только при |x| ≤ MAX_ABS_X
+    static double nearestQuarterTurn(double x) {
+        return Math.rint(x * TWO_OVER_PI);
+    }
+
+    static double offsetFromQuarterTurn(double x, double k) {
+        return Math.fma(-k, PIO2_HI, x) - k * PIO2_LO;
+    }
+
+    static boolean isReducible(double x) {
+        return Math.abs(x) <= MAX_ABS_X;
+    }
+
+    // |sin(r)| ≤ |r|, поэтому при |r| < precision проверка |sin| < precision срабатывает;
+    // запас в несколько ulp покрывает округление x + π/2 внутри Cos
+    private static double trigRadius(double precision, double pole) {
+        return SAFETY * precision - 4 * Math.ulp(Math.abs(pole) + PIO2_HI);
+    }
+
+    // |ln(x)| ≤ |x - 1| / min(x, 1); при |x - 1| < h и h / (1 - h) < precision * ln 3 выполнено |log_3(x)| < precision
+    private static double logRadius(double precision) {
+        double bound = precision * LN3;
+        return SAFETY * bound / (1 + bound);
+    }
+
+    private static void addClipped(List<Range> ranges, double from, double to, double start, double end) {
+        double clippedFrom = Math.max(from, start);
+        double clippedTo = Math.min(to, end);
+        if (clippedFrom <= clippedTo) {
+            ranges.add(new Range(clippedFrom, clippedTo));
+        }
+    }
+
+    public static final class Range {
+        private final double start;
+        private final double end;
+
+        Range(double start, double end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public double getEnd() {
+            return end;
+        }
+
+        public boolean contains(double x) {
+            return x >= start && x <= end;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + "]";
+        }
+    }
+}
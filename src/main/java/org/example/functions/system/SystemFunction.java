@@ -3,6 +3,7 @@ package org.example.functions.system;
 import org.example.functions.base.MathFunction;
 import org.example.functions.logarithmic.Ln;
 import org.example.functions.logarithmic.Log;
+import org.example.functions.logarithmic.LogFamily;
 import org.example.functions.trigonometric.Cos;
 import org.example.functions.trigonometric.Cot;
 import org.example.functions.trigonometric.Csc;
@@ -11,6 +12,11 @@ import org.example.functions.trigonometric.Sin;
 import org.example.functions.trigonometric.Tan;
 
 public class SystemFunction implements MathFunction {
+    // Индексы оснований в общем семействе логарифмов
+    static final int LOG10 = 0;
+    static final int LOG2 = 1;
+    static final int LOG3 = 2;
+
     // Тригонометрические функции для x ≤ 0
     private final Cos cos;
     private final Sec sec;
@@ -24,8 +30,16 @@ public class SystemFunction implements MathFunction {
     private final Log log2;
     private final Log log3;
 
+    // Синус, общий для всех тригонометрических функций; null, если компоненты переданы извне
+    private final Sin sin;
+
+    // log10, log2 и log3 через одно вычисление ln(x); null, если компоненты переданы извне
+    private final LogFamily logs;
+
     public SystemFunction(Cos cos, Sec sec, Cot cot, Tan tan, Csc csc,
                           Ln ln, Log log10, Log log2, Log log3) {
+        this.sin = null;
+        this.logs = null;
         this.cos = cos;
         this.sec = sec;
         this.cot = cot;
@@ -37,32 +51,64 @@ public class SystemFunction implements MathFunction {
         this.log3 = log3;
     }
 
-    public SystemFunction() {
-        Sin sin = new Sin();
+    public SystemFunction(Sin sin, Ln ln) {
+        this(sin, ln, new LogFamily(ln, 10, 2, 3));
+    }
+
+    private SystemFunction(Sin sin, Ln ln, LogFamily logs) {
+        this.sin = sin;
         this.cos = new Cos(sin);
         this.sec = new Sec(cos);
         this.tan = new Tan(sin, cos);
         this.cot = new Cot(sin, cos);
         this.csc = new Csc(sin);
 
-        this.ln = new Ln();
+        this.ln = ln;
         this.log10 = new Log(ln, 10);
         this.log2 = new Log(ln, 2);
         this.log3 = new Log(ln, 3);
+        this.logs = logs;
+    }
+
+    public SystemFunction() {
+        this(new Sin(), new Ln());
     }
 
     public SystemFunction(double epsilon, int maxIterations) {
-        Sin sin = new Sin(epsilon, maxIterations);
-        this.cos = new Cos(sin);
-        this.sec = new Sec(cos);
-        this.tan = new Tan(sin, cos);
-        this.cot = new Cot(sin, cos);
-        this.csc = new Csc(sin);
+        this(new Sin(epsilon, maxIterations), new Ln(epsilon, maxIterations));
+    }
 
-        this.ln = new Ln(epsilon, maxIterations);
-        this.log10 = new Log(ln, 10);
-        this.log2 = new Log(ln, 2);
-        this.log3 = new Log(ln, 3);
+    // Специализированный вычислитель для фиксированной точности
+    public CompiledSystemFunction compile(double precision) {
+        return SystemFunctionCompiler.compile(this, precision);
+    }
+
+    // Вычисление, в котором точность sin/cos и ln подбирается под каждую точку (см. PrecisionPlanner).
+    // Множители 1/ln(основание) пересчитываются с MIN_COMPONENT_PRECISION: с epsilon Ln их относительная
+    // ошибка (~1e-8 при 1e-6) сама превышала бы precision там, где ln(x) велик
+    public PlannedSystemFunction planned() {
+        if (sin == null || logs == null) {
+            throw new IllegalStateException("Планирование точности доступно только для SystemFunction(Sin, Ln)");
+        }
+        return new PlannedSystemFunction(
+                new SystemFunction(sin, ln, logs.withConstantPrecision(PrecisionPlanner.MIN_COMPONENT_PRECISION)));
+    }
+
+    // Компоненты для SystemFunctionCompiler; sin и logs равны null у композиции из готовых функций
+    Sin getSin() {
+        return sin;
+    }
+
+    LogFamily getLogs() {
+        return logs;
+    }
+
+    MathFunction[] getNegativeComponents() {
+        return new MathFunction[]{cos, sec, cot, tan, csc};
+    }
+
+    MathFunction[] getPositiveComponents() {
+        return new MathFunction[]{log10, ln, log2, log3};
     }
 
     @Override
@@ -74,7 +120,21 @@ public class SystemFunction implements MathFunction {
         }
     }
 
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            out[i] = x <= 0 ? calculateNegative(x, precision) : calculatePositive(x, precision);
+        }
+    }
+
     private double calculateNegative(double x, double precision) {
+        if (sin != null) {
+            return calculateNegativeFused(x, precision, precision);
+        }
+
         try {
             // Вычисляем значения всех функций в точке x
 //            System.out.println(x);
@@ -97,43 +157,86 @@ public class SystemFunction implements MathFunction {
                 return Double.NaN;
             }
 
-            // cos(x)^3
-            double cosCubed = Math.pow(cosX, 3);
+            return negativeFormula(cosX, secX, cotX, tanX, cscX);
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
 
-            // (cos(x)^3) * sec(x)
-            double cosCubedSecX = cosCubed * secX;
+    // Совмещенное вычисление, в котором компоненты считаются с отдельной точностью (см. PrecisionPlanner);
+    // особые точки и деление на ноль по-прежнему проверяются с точностью результата
+    double calculateFused(double x, double componentPrecision, double precision) {
+        return x <= 0
+                ? calculateNegativeFused(x, componentPrecision, precision)
+                : calculatePositiveFused(x, componentPrecision, precision);
+    }
 
-            // ((cos(x)^3) * sec(x))^2
-            double cosCubedSecXSquared = Math.pow(cosCubedSecX, 2);
+    // Один проход: sin(x) и cos(x) считаются по одному разу, остальные функции выводятся из них
+    private double calculateNegativeFused(double x, double componentPrecision, double precision) {
+        // Возле полюса ответ известен без рядов
+        if (SingularityIndex.classify(x, precision) == SingularityIndex.Kind.TRIG_POLE) {
+            return Double.NaN;
+        }
 
-            // (tan(x) + csc(x))
-            double tanPlusCsc = tanX + cscX;
+        double sinX = sin.calculate(x, componentPrecision);
+        double cosX = cos.calculate(x, componentPrecision);
 
-            // cot(x) * (tan(x) + csc(x))
-            double cotTimesTanPlusCsc = cotX * tanPlusCsc;
+        return fusedNegative(sinX, cosX, precision);
+    }
 
-            // (csc(x) * csc(x))
-            double cscSquared = cscX * cscX;
+    // Общая часть совмещенного вычисления; ее же использует SystemFunctionCompiler
+    static double fusedNegative(double sinX, double cosX, double precision) {
+        if (Double.isNaN(sinX) || Double.isNaN(cosX)) {
+            return Double.NaN;
+        }
 
-            // (cot(x) * (tan(x) + csc(x))) - (csc(x) * csc(x))
-            double cotTimesTanPlusCscMinusCscSquared = cotTimesTanPlusCsc - cscSquared;
+        // Те же проверки на полюсах, что в Sec и Tan (cos) и в Cot и Csc (sin)
+        if (Math.abs(cosX) < precision || Math.abs(sinX) < precision) {
+            return Double.NaN;
+        }
 
-            // ((((cos(x) ^ 3) * sec(x)) ^ 2) + ((cot(x) * (tan(x) + csc(x))) - (csc(x) * csc(x))))
-            double firstPart = cosCubedSecXSquared + cotTimesTanPlusCscMinusCscSquared;
+        return negativeFormula(cosX, 1.0 / cosX, cosX / sinX, sinX / cosX, 1.0 / sinX);
+    }
 
-            // (cot(x) ^ 2)
-            double cotSquared = Math.pow(cotX, 2);
+    static double negativeFormula(double cosX, double secX, double cotX, double tanX, double cscX) {
+        // cos(x)^3
+        double cosCubed = Math.pow(cosX, 3);
 
-            // (sec(x) / (cot(x) ^ 2))
-            double secDividedByCotSquared = secX / cotSquared;
+        // (cos(x)^3) * sec(x)
+        double cosCubedSecX = cosCubed * secX;
 
-            // Итоговый результат
-            return firstPart - secDividedByCotSquared;
-        } catch (Exception e) {
-            return Double.NaN;
-        }
+        // ((cos(x)^3) * sec(x))^2
+        double cosCubedSecXSquared = Math.pow(cosCubedSecX, 2);
+
+        // (tan(x) + csc(x))
+        double tanPlusCsc = tanX + cscX;
+
+        // cot(x) * (tan(x) + csc(x))
+        double cotTimesTanPlusCsc = cotX * tanPlusCsc;
+
+        // (csc(x) * csc(x))
+        double cscSquared = cscX * cscX;
+
+        // (cot(x) * (tan(x) + csc(x))) - (csc(x) * csc(x))
+        double cotTimesTanPlusCscMinusCscSquared = cotTimesTanPlusCsc - cscSquared;
+
+        // ((((cos(x) ^ 3) * sec(x)) ^ 2) + ((cot(x) * (tan(x) + csc(x))) - (csc(x) * csc(x))))
+        double firstPart = cosCubedSecXSquared + cotTimesTanPlusCscMinusCscSquared;
+
+        // (cot(x) ^ 2)
+        double cotSquared = Math.pow(cotX, 2);
+
+        // (sec(x) / (cot(x) ^ 2))
+        double secDividedByCotSquared = secX / cotSquared;
+
+        // Итоговый результат
+        return firstPart - secDividedByCotSquared;
     }
     private double calculatePositive(double x, double precision) {
+        if (logs != null) {
+            return calculatePositiveFused(x, precision, precision);
+        }
+
         try {
             // Вычисляем значения всех функций в точке x
             double log10X = log10.calculate(x, precision);
@@ -151,22 +254,52 @@ public class SystemFunction implements MathFunction {
                 return Double.NaN; // Избегаем деления на ноль
             }
 
-            // (log_10(x) - ln(x))
-            double log10MinusLn = log10X - lnX;
-
-            // (log_2(x) / log_3(x))
-            double log2DividedByLog3 = log2X / log3X;
+            return positiveFormula(log10X, lnX, log2X, log3X);
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
 
-            // ((log_10(x) - ln(x)) / (log_2(x) / log_3(x)))
-            double divisionResult = log10MinusLn / log2DividedByLog3;
+    // ln(x) считается один раз, логарифмы по основаниям 10, 2 и 3 получаются умножением
+    private double calculatePositiveFused(double x, double componentPrecision, double precision) {
+        if (SingularityIndex.classify(x, precision) == SingularityIndex.Kind.LOG_ZERO) {
+            return Double.NaN;
+        }
 
-            // (((log_10(x) - ln(x)) / (log_2(x) / log_3(x))) ^ 2)
-            double divisionResultSquared = Math.pow(divisionResult, 2);
+        return fusedPositiveFromLn(logs.calculateLn(x, componentPrecision), precision);
+    }
 
-            // Последнее умножение и деление на log_10(x) сокращаются
-            return divisionResultSquared;
-        } catch (Exception e) {
+    // Положительная ветвь по уже вычисленному ln(x); ее же использует GridEvaluator
+    double fusedPositiveFromLn(double lnX, double precision) {
+        if (Double.isNaN(lnX)) {
             return Double.NaN;
         }
+
+        return fusedPositive(lnX, logs.fromLn(LOG10, lnX), logs.fromLn(LOG2, lnX), logs.fromLn(LOG3, lnX), precision);
+    }
+
+    static double fusedPositive(double lnX, double log10X, double log2X, double log3X, double precision) {
+        if (Math.abs(log2X) < precision || Math.abs(log3X) < precision) {
+            return Double.NaN; // Избегаем деления на ноль
+        }
+
+        return positiveFormula(log10X, lnX, log2X, log3X);
+    }
+
+    static double positiveFormula(double log10X, double lnX, double log2X, double log3X) {
+        // (log_10(x) - ln(x))
+        double log10MinusLn = log10X - lnX;
+
+        // (log_2(x) / log_3(x))
+        double log2DividedByLog3 = log2X / log3X;
+
+        // ((log_10(x) - ln(x)) / (log_2(x) / log_3(x)))
+        double divisionResult = log10MinusLn / log2DividedByLog3;
+
+        // (((log_10(x) - ln(x)) / (log_2(x) / log_3(x))) ^ 2)
+        double divisionResultSquared = Math.pow(divisionResult, 2);
+
+        // Последнее умножение и деление на log_10(x) сокращаются
+        return divisionResultSquared;
     }
-} 
\ No newline at end of file
+}
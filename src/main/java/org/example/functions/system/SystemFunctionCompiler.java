@@ -0,0 +1,209 @@
+package org.example.functions.system;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.LogFamily;
+
+// Собирает SystemFunction с фиксированной точностью в одно дерево MethodHandle:
+// точность и 1/ln(основание) становятся связанными константами, аргумент проверяется один раз
+// на входе, а ядра Sin и Ln вызываются напрямую, без повторной проверки в каждом слое.
+// Готовое дерево кладется в static final поле отдельной копии ConstantEvaluator: из поля экземпляра
+// JIT вызывает MethodHandle как непрозрачный объект и ничего не встраивает
+final class SystemFunctionCompiler {
+
+    private static final String TEMPLATE_NAME = ConstantEvaluator.class.getName();
+    private static final byte[] TEMPLATE = readTemplate();
+
+    private static final MethodType UNARY = MethodType.methodType(double.class, double.class);
+
+    private static final MethodHandle IS_FINITE;
+    private static final MethodHandle IS_NOT_POSITIVE;
+    private static final MethodHandle TO_COS_ARGUMENT;
+    private static final MethodHandle FUSED_NEGATIVE;
+    private static final MethodHandle FUSED_POSITIVE;
+    private static final MethodHandle COMPOSED_NEGATIVE;
+    private static final MethodHandle COMPOSED_POSITIVE;
+    private static final MethodHandle CALCULATE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            IS_FINITE = lookup.findStatic(Double.class, "isFinite",
+                    MethodType.methodType(boolean.class, double.class));
+            IS_NOT_POSITIVE = lookup.findStatic(SystemFunctionCompiler.class, "isNotPositive",
+                    MethodType.methodType(boolean.class, double.class));
+            TO_COS_ARGUMENT = lookup.findStatic(SystemFunctionCompiler.class, "toCosArgument", UNARY);
+            FUSED_NEGATIVE = lookup.findStatic(SystemFunction.class, "fusedNegative",
+                    MethodType.methodType(double.class, double.class, double.class, double.class));
+            FUSED_POSITIVE = lookup.findStatic(SystemFunctionCompiler.class, "fusedPositive",
+                    MethodType.methodType(double.class, double.class,
+                            double.class, double.class, double.class, double.class));
+            COMPOSED_NEGATIVE = lookup.findStatic(SystemFunctionCompiler.class, "composedNegative",
+                    MethodType.methodType(double.class,
+                            double.class, double.class, double.class, double.class, double.class));
+            COMPOSED_POSITIVE = lookup.findStatic(SystemFunctionCompiler.class, "composedPositive",
+                    MethodType.methodType(double.class,
+                            double.class, double.class, double.class, double.class, double.class));
+            CALCULATE = lookup.findVirtual(MathFunction.class, "calculate",
+                    MethodType.methodType(double.class, double.class, double.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SystemFunctionCompiler() {
+    }
+
+    static CompiledSystemFunction compile(SystemFunction function, double precision) {
+        if (Double.isNaN(precision) || precision <= 0 || precision >= 1) {
+            throw new IllegalArgumentException("Точность должна быть больше 0 и меньше 1");
+        }
+
+        MethodHandle evaluator = function.getSin() != null && function.getLogs() != null
+                ? compileFused(function, precision)
+                : compileComposed(function, precision);
+        return new CompiledSystemFunction(function, precision, constant(evaluator));
+    }
+
+    // Новая копия ConstantEvaluator с деревом в static final поле; копия выгружается вместе с загрузчиком,
+    // когда CompiledSystemFunction больше не нужна
+    static DoubleUnaryOperator constant(MethodHandle evaluator) {
+        try {
+            Class<?> copy = Class.forName(TEMPLATE_NAME, true, new EvaluatorLoader(evaluator));
+            Constructor<?> constructor = copy.getDeclaredConstructor();
+            // Копия лежит в другом пакете времени выполнения, поэтому конструктор открывается явно
+            constructor.setAccessible(true);
+            return (DoubleUnaryOperator) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readTemplate() {
+        String resource = TEMPLATE_NAME.substring(TEMPLATE_NAME.lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = ConstantEvaluator.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Не найден " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Совмещенный граф: sin(x), sin(x + π/2) и ln(x) — прямые вызовы ядер
+    private static MethodHandle compileFused(SystemFunction function, double precision) {
+        MethodHandle sin = function.getSin().specialize(precision);
+        MethodHandle cos = MethodHandles.filterArguments(sin, 0, TO_COS_ARGUMENT);
+
+        // (x) -> fusedNegative(sin(x), cos(x), precision)
+        MethodHandle negative = MethodHandles.insertArguments(FUSED_NEGATIVE, 2, precision);
+        negative = MethodHandles.filterArguments(negative, 0, sin, cos);
+        negative = MethodHandles.permuteArguments(negative, UNARY, 0, 0);
+
+        // (x) -> fusedPositive(ln(x), 1/ln 10, 1/ln 2, 1/ln 3, precision)
+        LogFamily logs = function.getLogs();
+        MethodHandle positive = MethodHandles.insertArguments(FUSED_POSITIVE, 1,
+                logs.fromLn(SystemFunction.LOG10, 1.0),
+                logs.fromLn(SystemFunction.LOG2, 1.0),
+                logs.fromLn(SystemFunction.LOG3, 1.0),
+                precision);
+        positive = MethodHandles.filterArguments(positive, 0, logs.getLn().specialize(precision));
+
+        // NaN и бесконечность отсекаются здесь, поэтому ядра получают только конечные x
+        MethodHandle branches = MethodHandles.guardWithTest(IS_NOT_POSITIVE, negative, positive);
+        return MethodHandles.guardWithTest(IS_FINITE, branches, nan());
+    }
+
+    // Композиция из готовых функций: точность связывается в каждом вызове calculate
+    private static MethodHandle compileComposed(SystemFunction function, double precision) {
+        MethodHandle negative = applyAll(COMPOSED_NEGATIVE, function.getNegativeComponents(), precision);
+        MethodHandle positive = MethodHandles.insertArguments(COMPOSED_POSITIVE, 4, precision);
+        positive = applyAll(positive, function.getPositiveComponents(), precision);
+
+        // Как и в SystemFunction, исключение компонента превращается в NaN
+        MethodHandle branches = MethodHandles.guardWithTest(IS_NOT_POSITIVE, negative, positive);
+        MethodHandle handler = MethodHandles.dropArguments(nan(), 0, Exception.class);
+        return MethodHandles.catchException(branches, Exception.class, handler);
+    }
+
+    // (x) -> body(f0(x), f1(x), ...), где fi(x) = components[i].calculate(x, precision)
+    private static MethodHandle applyAll(MethodHandle body, MathFunction[] components, double precision) {
+        MethodHandle[] filters = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            filters[i] = MethodHandles.insertArguments(CALCULATE.bindTo(components[i]), 1, precision);
+        }
+        return MethodHandles.permuteArguments(MethodHandles.filterArguments(body, 0, filters),
+                UNARY, new int[components.length]);
+    }
+
+    private static MethodHandle nan() {
+        return MethodHandles.dropArguments(MethodHandles.constant(double.class, Double.NaN), 0, double.class);
+    }
+
+    private static boolean isNotPositive(double x) {
+        return x <= 0;
+    }
+
+    // Тот же сдвиг, что в Cos, чтобы результат совпадал с интерпретируемым графом бит в бит
+    private static double toCosArgument(double x) {
+        return x + Math.PI / 2;
+    }
+
+    private static double fusedPositive(double lnX, double inverseLn10, double inverseLn2, double inverseLn3,
+                                        double precision) {
+        return SystemFunction.fusedPositive(lnX, lnX * inverseLn10, lnX * inverseLn2, lnX * inverseLn3, precision);
+    }
+
+    private static double composedNegative(double cosX, double secX, double cotX, double tanX, double cscX) {
+        if (Double.isNaN(cosX) || Double.isNaN(secX) || Double.isNaN(cotX) ||
+                Double.isNaN(tanX) || Double.isNaN(cscX)) {
+            return Double.NaN;
+        }
+        return SystemFunction.negativeFormula(cosX, secX, cotX, tanX, cscX);
+    }
+
+    private static double composedPositive(double log10X, double lnX, double log2X, double log3X,
+                                           double precision) {
+        if (Double.isNaN(log10X) || Double.isNaN(lnX) || Double.isNaN(log2X) || Double.isNaN(log3X)) {
+            return Double.NaN;
+        }
+        return SystemFunction.fusedPositive(lnX, log10X, log2X, log3X, precision);
+    }
+
+    // Загружает собственную копию ConstantEvaluator, остальные классы берет у родителя
+    private static final class EvaluatorLoader extends ClassLoader implements Supplier<MethodHandle> {
+
+        private final MethodHandle evaluator;
+
+        EvaluatorLoader(MethodHandle evaluator) {
+            super(SystemFunctionCompiler.class.getClassLoader());
+            this.evaluator = evaluator;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!TEMPLATE_NAME.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : defineClass(name, TEMPLATE, 0, TEMPLATE.length);
+            }
+        }
+
+        @Override
+        public MethodHandle get() {
+            return evaluator;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.functions.trigonometric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Сведение аргумента к r ∈ [-π/4, π/4]: x = q * π/2 + r.
+// Для умеренных |x| используется схема Коди — Уэйта (π/2 разбито на три части по 33 бита),
+// для огромных — схема Пейна — Ханека (берется только нужное окно битов 2/π).
+final class ArgumentReduction {
+
+    static final double PI_4 = Math.PI / 4;
+    static final double TWO_OVER_PI = 2 / Math.PI;
+
+    // Пока |q| < 2^20, произведения q * PIO2_i вычисляются точно
+    static final double CODY_WAITE_LIMIT = 0x1p20 * (Math.PI / 2);
+
+    private static final double PIO2_1 = Double.longBitsToDouble(0x3FF921FB54400000L);
+    private static final double PIO2_2 = Double.longBitsToDouble(0x3DD0B4611A600000L);
+    private static final double PIO2_3 = Double.longBitsToDouble(0x3BA3198A2E000000L);
+
+    // π/2 в виде суммы двух double
+    private static final double PIO2_HI = 1.5707963267948966;
+    private static final double PIO2_LO = 6.123233995736766e-17;
+
+    // floor(2/π * 2^TWO_OVER_PI_BITS); хватает для показателей до 2^1023
+    private static final int TWO_OVER_PI_BITS = 1280;
+    private static final BigInteger TWO_OVER_PI_FIXED = twoOverPi(TWO_OVER_PI_BITS);
+
+    // Сколько дробных битов x * 2/π сохраняется при сведении Пейна — Ханека
+    private static final int FRACTION_BITS = 190;
+    private static final BigInteger FRACTION_MASK = BigInteger.ONE.shiftLeft(FRACTION_BITS).subtract(BigInteger.ONE);
+    private static final BigInteger WINDOW_MASK = BigInteger.ONE.shiftLeft(FRACTION_BITS + 2).subtract(BigInteger.ONE);
+    private static final BigDecimal FRACTION_SCALE = new BigDecimal(BigInteger.ONE.shiftLeft(FRACTION_BITS));
+
+    private ArgumentReduction() {
+    }
+
+    // Номер четверти для схемы Коди — Уэйта
+    static double quadrant(double x) {
+        return Math.rint(x * TWO_OVER_PI);
+    }
+
+    static double codyWaite(double x, double q) {
+        return ((x - q * PIO2_1) - q * PIO2_2) - q * PIO2_3;
+    }
+
+    // Пишет r = reduced[0] + reduced[1] и возвращает номер четверти по модулю 4
+    static int payneHanek(double x, double[] reduced) {
+        boolean negative = x < 0;
+        double ax = Math.abs(x);
+
+        // ax = mantissa * 2^exponent, mantissa — 53-битное целое
+        long bits = Double.doubleToRawLongBits(ax);
+        int exponent = (int) (bits >>> 52) - 1075;
+        long mantissa = (bits & 0x000FFFFFFFFFFFFFL) | 0x0010000000000000L;
+
+        // ax * 2/π = mantissa * T / 2^shift; биты T выше shift + 2 дают кратное 4, ниже shift - 190 — шум
+        int shift = TWO_OVER_PI_BITS - exponent;
+        BigInteger window = TWO_OVER_PI_FIXED.shiftRight(shift - FRACTION_BITS).and(WINDOW_MASK);
+        BigInteger product = window.multiply(BigInteger.valueOf(mantissa));
+
+        int quadrant = product.shiftRight(FRACTION_BITS).intValue() & 3;
+        BigInteger fraction = product.and(FRACTION_MASK);
+
+        // Дробная часть в [-1/2, 1/2): r = fraction * π/2 ∈ [-π/4, π/4]
+        if (fraction.testBit(FRACTION_BITS - 1)) {
+            fraction = fraction.subtract(BigInteger.ONE.shiftLeft(FRACTION_BITS));
+            quadrant = (quadrant + 1) & 3;
+        }
+
+        BigDecimal exact = new BigDecimal(fraction).divide(FRACTION_SCALE);
+        double hi = exact.doubleValue();
+        double lo = exact.subtract(new BigDecimal(hi)).doubleValue();
+
+        double rHi = hi * PIO2_HI;
+        double rLo = Math.fma(hi, PIO2_HI, -rHi) + hi * PIO2_LO + lo * PIO2_HI;
+        double r = rHi + rLo;
+
+        reduced[0] = negative ? -r : r;
+        reduced[1] = negative ? -(rLo - (r - rHi)) : rLo - (r - rHi);
+        return negative ? -quadrant & 3 : quadrant;
+    }
+
+    // 2/π с заданным числом битов через формулу Мэчина π = 16 atan(1/5) - 4 atan(1/239)
+    private static BigInteger twoOverPi(int bits) {
+        int scale = bits + 64;
+        BigInteger one = BigInteger.ONE.shiftLeft(scale);
+        BigInteger pi = arctanInverse(5, one).shiftLeft(4).subtract(arctanInverse(239, one).shiftLeft(2));
+        return BigInteger.ONE.shiftLeft(scale + bits + 1).divide(pi);
+    }
+
+    // atan(1/n) * one
+    private static BigInteger arctanInverse(int n, BigInteger one) {
+        BigInteger n2 = BigInteger.valueOf((long) n * n);
+        BigInteger power = one.divide(BigInteger.valueOf(n));
+        BigInteger sum = power;
+        for (int k = 1; power.signum() != 0; k++) {
+            power = power.divide(n2);
+            BigInteger term = power.divide(BigInteger.valueOf(2L * k + 1));
+            sum = (k & 1) == 1 ? sum.subtract(term) : sum.add(term);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.functions.trigonometric;
+
+// Sin, помнящий два последних вычисления: sin(x) и sin(x + π/2), через который считается Cos.
+// Нужен, когда несколько функций одной строки (cos, tan, cot, sec, csc, система) запрашивают
+// один и тот же синус подряд. Не потокобезопасен: по экземпляру на поток
+public class MemoizedSin extends Sin {
+
+    private final Sin delegate;
+
+    private final long[] keys = new long[2];
+    private final double[] precisions = {Double.NaN, Double.NaN};
+    private final double[] values = new double[2];
+    private int victim;
+
+    public MemoizedSin(Sin delegate) {
+        super(delegate.getEpsilon(), delegate.getMaxIterations());
+        this.delegate = delegate;
+    }
+
+    public MemoizedSin() {
+        this(new Sin());
+    }
+
+    @Override
+    protected double evaluate(double x, double precision) {
+        long key = Double.doubleToRawLongBits(x);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key && precisions[i] == precision) {
+                return values[i];
+            }
+        }
+
+        double value = delegate.evaluate(x, precision);
+        keys[victim] = key;
+        precisions[victim] = precision;
+        values[victim] = value;
+        victim ^= 1;
+        return value;
+    }
+
+    public Sin getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.functions.trigonometric;
+
+import org.example.functions.base.Polynomials;
+
+// Синус, специализированный под точность, заданную при создании: после сведения к [-π/4, π/4]
+// число членов рядов Тейлора известно заранее, и sin(r) = r * S(r^2), cos(r) = C(r^2)
+// считаются по схеме Горнера. Запросы с более жесткой точностью уходят в обычный ряд.
+public class PolynomialSin extends Sin {
+
+    // Граница сведенного аргумента с небольшим запасом на округление
+    private static final double R_MAX = 0.786;
+
+    private final double boundPrecision;
+    private final double[] sinCoefficients;
+    private final double[] cosCoefficients;
+
+    public PolynomialSin(double precision, int maxIterations) {
+        super(precision, maxIterations);
+        if (!isValidPrecision(precision)) {
+            throw new IllegalArgumentException("Точность должна быть больше 0 и меньше 1");
+        }
+
+        this.boundPrecision = precision;
+        this.sinCoefficients = coefficientsFor(precision, 1);
+        this.cosCoefficients = coefficientsFor(precision, 0);
+    }
+
+    public static PolynomialSin forPrecision(double precision) {
+        return new PolynomialSin(precision, 100);
+    }
+
+    // Коэффициенты (-1)^k / (2k + offset)! до первого члена, который на |r| = R_MAX не больше precision / 2;
+    // offset = 1 для sin(r) / r, offset = 0 для cos(r)
+    static double[] coefficientsFor(double precision, int offset) {
+        int terms = 0;
+        double bound = offset == 1 ? R_MAX : 1.0;
+        while (bound > 0.5 * precision) {
+            terms++;
+            bound *= R_MAX * R_MAX / ((2 * terms + offset - 1) * (2 * terms + offset));
+        }
+        terms = Math.max(terms, 1);
+
+        double[] result = new double[terms];
+        result[0] = 1.0;
+        for (int k = 1; k < terms; k++) {
+            result[k] = -result[k - 1] / ((2 * k + offset - 1) * (2 * k + offset));
+        }
+        return result;
+    }
+
+    @Override
+    protected double sinKernel(double r, double precision) {
+        if (precision < boundPrecision) {
+            return super.sinKernel(r, precision);
+        }
+        return r * Polynomials.horner(sinCoefficients, r * r);
+    }
+
+    @Override
+    protected double cosKernel(double r, double precision) {
+        if (precision < boundPrecision) {
+            return super.cosKernel(r, precision);
+        }
+        return Polynomials.horner(cosCoefficients, r * r);
+    }
+
+    public double getBoundPrecision() {
+        return boundPrecision;
+    }
+
+    public int getTermCount() {
+        return Math.max(sinCoefficients.length, cosCoefficients.length);
+    }
+}
@@ -1,9 +1,22 @@
 package org.example.functions.trigonometric;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
 import org.example.functions.base.BaseFunction;
+import org.example.functions.base.MathFunction;
+import org.example.functions.base.Polynomials;
 
 public class Sin extends BaseFunction {
 
+    private static final MethodHandle EVALUATE = findEvaluate();
+
+    // Многочлены быстрого пути для sin(r) / r и cos(r) по уровням точности BaseFunction
+    private static final double[][] LOW_PRECISION_SIN = lowPrecisionCoefficients(1);
+    private static final double[][] LOW_PRECISION_COS = lowPrecisionCoefficients(0);
+
     public Sin(double epsilon, int maxIterations) {
         super(epsilon, maxIterations);
     }
@@ -15,29 +28,135 @@ public class Sin extends BaseFunction {
     @Override
     public double calculate(double x, double precision) {
         if (!validateArgs(x, precision)) {
-            return Double.NaN;
+            return recordNaN();
         }
 
-        // Нормализуем x в диапазон [-π, π] для лучшей сходимости ряда
-        double normalizedX = normalizeArg(x);
+        return evaluate(x, precision);
+    }
+
+    @Override
+    public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+        MathFunction.checkBatchBounds(xs, from, to, out);
+
+        // Точность проверяется один раз на всю пачку
+        if (!isValidPrecision(precision)) {
+            Arrays.fill(out, from, to, Double.NaN);
+            recordNaN(to - from);
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            out[i] = isValidArgument(x) ? evaluate(x, precision) : recordNaN();
+        }
+    }
+
+    // Обработчик (double)double: x -> evaluate(x, precision) без проверки аргумента.
+    // Нужен для компиляции выражений, где аргумент уже проверен; подходит только для конечных x
+    public MethodHandle specialize(double precision) {
+        if (!isValidPrecision(precision)) {
+            throw new IllegalArgumentException("Точность должна быть больше 0 и меньше 1");
+        }
+        return MethodHandles.insertArguments(EVALUATE.bindTo(this), 1, precision);
+    }
+
+    private static MethodHandle findEvaluate() {
+        try {
+            return MethodHandles.lookup().findVirtual(Sin.class, "evaluate",
+                    MethodType.methodType(double.class, double.class, double.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Вычисление для уже проверенных аргументов; наследники подменяют его или ядра sinKernel/cosKernel
+    protected double evaluate(double x, double precision) {
+        double absX = Math.abs(x);
+        if (absX <= ArgumentReduction.PI_4) {
+            return sinKernel(x, precision);
+        }
+
+        // Сводим x к r ∈ [-π/4, π/4] и выбираем sin или cos по четверти
+        if (absX < ArgumentReduction.CODY_WAITE_LIMIT) {
+            double q = ArgumentReduction.quadrant(x);
+            return fromQuadrant((int) (long) q & 3, ArgumentReduction.codyWaite(x, q), precision);
+        }
+
+        // Огромные аргументы встречаются редко, поэтому здесь допустима аллокация
+        double[] reduced = new double[2];
+        int quadrant = ArgumentReduction.payneHanek(x, reduced);
+        return fromQuadrant(quadrant, reduced[0] + reduced[1], precision);
+    }
+
+    private double fromQuadrant(int quadrant, double r, double precision) {
+        switch (quadrant) {
+            case 0:
+                return sinKernel(r, precision);
+            case 1:
+                return cosKernel(r, precision);
+            case 2:
+                return -sinKernel(r, precision);
+            default:
+                return -cosKernel(r, precision);
+        }
+    }
+
+    private static double[][] lowPrecisionCoefficients(int offset) {
+        double[][] coefficients = new double[LOW_PRECISION_TIER_COUNT][];
+        for (int tier = 0; tier < LOW_PRECISION_TIER_COUNT; tier++) {
+            coefficients[tier] = PolynomialSin.coefficientsFor(lowPrecisionTierBound(tier), offset);
+        }
+        return coefficients;
+    }
+
+    // Ряд Тейлора для sin(r), |r| <= π/4; при грубой точности — готовый многочлен, если он укладывается в maxIterations
+    protected double sinKernel(double r, double precision) {
+        int tier = lowPrecisionTier(precision);
+        if (tier >= 0 && LOW_PRECISION_SIN[tier].length <= getMaxIterations()) {
+            recordSeries(LOW_PRECISION_SIN[tier].length, false);
+            return r * Polynomials.horner(LOW_PRECISION_SIN[tier], r * r);
+        }
 
         double result = 0.0;
-        double term = normalizedX;
+        double term = r;
         int n = 1;
-        double xSquared = normalizedX * normalizedX;
+        double rSquared = r * r;
 
-        for (int i = 0; i < getMaxIterations() && Math.abs(term) > precision; i++) {
+        int i = 0;
+        for (; i < getMaxIterations() && Math.abs(term) > precision; i++) {
             result += term;
 
             // Вычисляем следующий член ряда без использования факториала
             n += 2;
-            term = -term * xSquared / (n * (n - 1));
+            term = -term * rSquared / (n * (n - 1));
         }
+        recordSeries(i, Math.abs(term) > precision);
 
         return result;
     }
 
-    private double normalizeArg(double x) {
-        return Math.IEEEremainder(x, 2 * Math.PI);
+    // Ряд Тейлора для cos(r), |r| <= π/4
+    protected double cosKernel(double r, double precision) {
+        int tier = lowPrecisionTier(precision);
+        if (tier >= 0 && LOW_PRECISION_COS[tier].length <= getMaxIterations()) {
+            recordSeries(LOW_PRECISION_COS[tier].length, false);
+            return Polynomials.horner(LOW_PRECISION_COS[tier], r * r);
+        }
+
+        double result = 0.0;
+        double term = 1.0;
+        int n = 0;
+        double rSquared = r * r;
+
+        int i = 0;
+        for (; i < getMaxIterations() && Math.abs(term) > precision; i++) {
+            result += term;
+
+            n += 2;
+            term = -term * rSquared / (n * (n - 1));
+        }
+        recordSeries(i, Math.abs(term) > precision);
+
+        return result;
     }
 }
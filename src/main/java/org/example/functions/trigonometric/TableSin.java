@@ -0,0 +1,126 @@
+package org.example.functions.trigonometric;
+
+// Синус по таблице: после сведения к r ∈ [-π/4, π/4] берется ближайший узел a, для которого
+// sin(a) и cos(a) посчитаны при создании, и короткая поправка по d = r - a, |d| <= step / 2:
+// sin(a + d) = sin(a) * cos(d) + cos(a) * sin(d), cos(a + d) = cos(a) * cos(d) - sin(a) * sin(d).
+public class TableSin extends Sin {
+
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final int MAX_TABLE_SIZE = 1 << 20;
+
+    // Точность, с которой заполняется таблица
+    private static final double TABLE_PRECISION = 1e-18;
+
+    private final int tableSize;
+    private final double step;
+    private final double inverseStep;
+    private final double[] nodes;
+    private final double[] sinTable;
+    private final double[] cosTable;
+
+    public TableSin(double epsilon, int maxIterations, int tableSize) {
+        super(epsilon, maxIterations);
+        if (tableSize < MIN_TABLE_SIZE || tableSize > MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("Размер таблицы должен быть от " + MIN_TABLE_SIZE
+                    + " до " + MAX_TABLE_SIZE);
+        }
+
+        this.tableSize = tableSize;
+        this.step = 2 * ArgumentReduction.PI_4 / tableSize;
+        this.inverseStep = tableSize / (2 * ArgumentReduction.PI_4);
+        this.nodes = new double[tableSize + 1];
+        this.sinTable = new double[tableSize + 1];
+        this.cosTable = new double[tableSize + 1];
+
+        // Узлы покрывают [-π/4, π/4] включительно
+        Sin series = new Sin(TABLE_PRECISION, 100);
+        for (int j = 0; j <= tableSize; j++) {
+            double a = -ArgumentReduction.PI_4 + j * step;
+            nodes[j] = a;
+            sinTable[j] = series.calculate(a, TABLE_PRECISION);
+            cosTable[j] = series.calculate(a + Math.PI / 2, TABLE_PRECISION);
+        }
+    }
+
+    public TableSin(int tableSize) {
+        this(1e-6, 100, tableSize);
+    }
+
+    // Таблица такого размера, чтобы для заданной точности поправке хватало двух членов ряда
+    public static TableSin forPrecision(double precision) {
+        return new TableSin(precision, 100, tableSizeFor(precision));
+    }
+
+    public static int tableSizeFor(double precision) {
+        // Третий член ряда для sin(d) равен d^3 / 6: требуем (step / 2)^3 / 6 <= precision
+        double step = 2 * Math.cbrt(6 * precision);
+        long size = (long) Math.ceil(2 * ArgumentReduction.PI_4 / step);
+        return (int) Math.max(MIN_TABLE_SIZE, Math.min(MAX_TABLE_SIZE, size));
+    }
+
+    @Override
+    protected double sinKernel(double r, double precision) {
+        int j = node(r);
+        double d = r - nodes[j];
+        double halfPrecision = 0.5 * precision;
+        return sinTable[j] * cosCorrection(d, halfPrecision) + cosTable[j] * sinCorrection(d, halfPrecision);
+    }
+
+    @Override
+    protected double cosKernel(double r, double precision) {
+        int j = node(r);
+        double d = r - nodes[j];
+        double halfPrecision = 0.5 * precision;
+        return cosTable[j] * cosCorrection(d, halfPrecision) - sinTable[j] * sinCorrection(d, halfPrecision);
+    }
+
+    // Ближайший узел; сведенный аргумент может чуть выходить за π/4 из-за округления
+    private int node(double r) {
+        int j = (int) Math.round((r + ArgumentReduction.PI_4) * inverseStep);
+        return Math.max(0, Math.min(tableSize, j));
+    }
+
+    // Каждая поправка считается с запасом precision / 2, так что итоговая ошибка не больше precision
+    private double sinCorrection(double d, double halfPrecision) {
+        double d2 = d * d;
+        double result = 0.0;
+        double term = d;
+        int n = 1;
+        int i = 0;
+        for (; i < getMaxIterations() && Math.abs(term) > halfPrecision; i++) {
+            result += term;
+            n += 2;
+            term = -term * d2 / (n * (n - 1));
+        }
+        recordSeries(i, Math.abs(term) > halfPrecision);
+        return result;
+    }
+
+    private double cosCorrection(double d, double halfPrecision) {
+        double d2 = d * d;
+        double result = 0.0;
+        double term = 1.0;
+        int n = 0;
+        int i = 0;
+        for (; i < getMaxIterations() && Math.abs(term) > halfPrecision; i++) {
+            result += term;
+            n += 2;
+            term = -term * d2 / (n * (n - 1));
+        }
+        recordSeries(i, Math.abs(term) > halfPrecision);
+        return result;
+    }
+
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    // Память под узлы и значения sin/cos в байтах
+    public long getTableBytes() {
+        return 3L * (tableSize + 1) * Double.BYTES;
+    }
+}
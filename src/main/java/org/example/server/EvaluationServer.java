@@ -0,0 +1,332 @@
+package org.example.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import org.example.util.CsvRowEncoder;
+import org.example.util.DoubleFormatter;
+
+// Встроенный HTTP-сервер для вычисления функций из других процессов:
+//   GET  /evaluate/{function}?x=...&precision=...   — одно значение, text/plain
+//   POST /batch/{function}?precision=...             — пачка аргументов:
+//        application/octet-stream: double little-endian подряд, ответ в том же виде;
+//        text/csv: по одному x в строке, ответ — CSV "X,f(X)" как у CsvExporter
+//   GET  /stats                                      — пропускная способность и задержки, JSON
+// Экземпляры функций общие для всех запросов: Sin, Ln и составленные из них функции неизменяемы
+public class EvaluationServer implements Closeable {
+
+    // Защита от слишком больших тел запросов
+    private static final int MAX_BODY_SIZE = 64 << 20;
+
+    // Размер запасного пула потоков, если виртуальных нет (см. fallbackPoolSize)
+    private static final int THREADS_PER_CORE = 2;
+    private static final int MIN_FALLBACK_THREADS = 4;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, MathFunction> functions;
+    private final ServerStats stats = new ServerStats();
+    private final double defaultPrecision;
+
+    public EvaluationServer(InetSocketAddress address, Map<String, MathFunction> functions,
+                            double defaultPrecision) throws IOException {
+        this.functions = Collections.unmodifiableMap(new HashMap<>(functions));
+        this.defaultPrecision = defaultPrecision;
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/evaluate/", this::handleEvaluate);
+        server.createContext("/batch/", this::handleBatch);
+        server.createContext("/stats", this::handleStats);
+    }
+
+    public EvaluationServer(int port) throws IOException {
+        this(new InetSocketAddress("localhost", port), defaultFunctions(1e-6, 100), 1e-6);
+    }
+
+    // Система и все ее компоненты поверх общих Sin и Ln
+    public static Map<String, MathFunction> defaultFunctions(double epsilon, int maxIterations) {
+        Sin sin = new Sin(epsilon, maxIterations);
+        Cos cos = new Cos(sin);
+        Ln ln = new Ln(epsilon, maxIterations);
+
+        Map<String, MathFunction> functions = new LinkedHashMap<>();
+        functions.put("system", new SystemFunction(sin, ln));
+        functions.put("sin", sin);
+        functions.put("cos", cos);
+        functions.put("tan", new Tan(sin, cos));
+        functions.put("cot", new Cot(sin, cos));
+        functions.put("sec", new Sec(cos));
+        functions.put("csc", new Csc(sin));
+        functions.put("ln", ln);
+        functions.put("log10", new Log(ln, 10));
+        functions.put("log2", new Log(ln, 2));
+        functions.put("log3", new Log(ln, 3));
+        return functions;
+    }
+
+    // Поток на запрос: виртуальные потоки, если JDK их поддерживает (21+), иначе фиксированный пул
+    // (см. fallbackPoolSize). Фабрика ищется через reflection, чтобы сборка оставалась совместимой с Java 11
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(fallbackPoolSize(Runtime.getRuntime().availableProcessors()));
+        }
+    }
+
+    // Вдвое больше потоков, чем ядер: запрос не только считает, но и ждет сокет (чтение тела, отправка ответа),
+    // и пока один поток ждет, второй занимает ядро. Не меньше четырех, чтобы на одно-двухъядерной машине
+    // пара медленных клиентов не забирала все потоки и не останавливала остальные запросы
+    static int fallbackPoolSize(int cores) {
+        return Math.max(MIN_FALLBACK_THREADS, THREADS_PER_CORE * cores);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Обработчик запроса; возвращает число вычисленных точек
+    private interface RequestHandler {
+        long handle(HttpExchange exchange, MathFunction function) throws IOException;
+    }
+
+    private void handleEvaluate(HttpExchange exchange) throws IOException {
+        handle(exchange, "GET", "/evaluate/", this::evaluate);
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        handle(exchange, "POST", "/batch/", this::evaluateBatch);
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        long started = System.nanoTime();
+        try {
+            if (expectMethod(exchange, "GET", started)) {
+                send(exchange, 200, "application/json", stats.toJson().getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Общая часть: метод, поиск функции, ошибки в аргументах -> 400, прочие исключения -> 500, учет в статистике.
+    // HttpExchange закрывается явно: AutoCloseable он только с Java 14
+    private void handle(HttpExchange exchange, String method, String prefix, RequestHandler handler)
+            throws IOException {
+        long started = System.nanoTime();
+        try {
+            if (!expectMethod(exchange, method, started)) {
+                return;
+            }
+            MathFunction function = functions.get(exchange.getRequestURI().getPath().substring(prefix.length()));
+            if (function == null) {
+                sendError(exchange, 404, "Неизвестная функция", started);
+                return;
+            }
+
+            long points;
+            try {
+                points = handler.handle(exchange, function);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage(), started);
+                return;
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, "Ошибка вычисления: " + e, started);
+                return;
+            }
+            stats.record(points, System.nanoTime() - started);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // false, если метод запроса не тот: ответ 405 уже отправлен
+    private boolean expectMethod(HttpExchange exchange, String method, long started) throws IOException {
+        if (method.equals(exchange.getRequestMethod())) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, 405, "Ожидался " + method, started);
+        return false;
+    }
+
+    private long evaluate(HttpExchange exchange, MathFunction function) throws IOException {
+        Map<String, String> query = query(exchange);
+        double x = Double.parseDouble(required(query, "x"));
+        double precision = precision(query);
+
+        String body = DoubleFormatter.toString(function.calculate(x, precision)) + "\n";
+        send(exchange, 200, "text/plain; charset=utf-8", body.getBytes(StandardCharsets.UTF_8));
+        return 1;
+    }
+
+    private long evaluateBatch(HttpExchange exchange, MathFunction function) throws IOException {
+        double precision = precision(query(exchange));
+        byte[] body = readBody(exchange.getRequestBody());
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+
+        double[] xs;
+        boolean csv = contentType != null && contentType.startsWith("text/csv");
+        if (csv) {
+            xs = parseCsv(body);
+        } else {
+            if (body.length % Double.BYTES != 0) {
+                throw new IllegalArgumentException("Длина двоичного тела должна быть кратна 8");
+            }
+            xs = new double[body.length / Double.BYTES];
+            ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(xs);
+        }
+
+        double[] results = new double[xs.length];
+        function.calculate(xs, 0, xs.length, precision, results);
+
+        if (csv) {
+            CsvRowEncoder encoder = new CsvRowEncoder(",", (int) Math.min(48L * xs.length + 16, 1 << 20));
+            encoder.appendHeader("X", "f(X)");
+            encoder.appendRows(xs, results, xs.length);
+            send(exchange, 200, "text/csv; charset=" + Charset.defaultCharset().name(), toBytes(encoder));
+        } else {
+            ByteBuffer out = ByteBuffer.allocate(results.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            out.asDoubleBuffer().put(results);
+            send(exchange, 200, "application/octet-stream", out.array());
+        }
+        return xs.length;
+    }
+
+    private double precision(Map<String, String> query) {
+        String value = query.get("precision");
+        return value == null ? defaultPrecision : Double.parseDouble(value);
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Не указан параметр " + name);
+        }
+        return value;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> result = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return result;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                result.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    // По одному x в строке; пустые строки пропускаются, берется первый столбец
+    private static double[] parseCsv(byte[] body) {
+        String[] lines = new String(body, StandardCharsets.UTF_8).split("\r?\n");
+        double[] xs = new double[lines.length];
+        int count = 0;
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int comma = trimmed.indexOf(',');
+            xs[count++] = Double.parseDouble(comma < 0 ? trimmed : trimmed.substring(0, comma).trim());
+        }
+        return count == xs.length ? xs : Arrays.copyOf(xs, count);
+    }
+
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+            if (out.size() > MAX_BODY_SIZE) {
+                throw new IllegalArgumentException("Тело запроса больше " + MAX_BODY_SIZE + " байт");
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] toBytes(CsvRowEncoder encoder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoder.size());
+        encoder.writeTo(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    // Ошибка учитывается всегда; если обработчик упал после отправки заголовков, статус уже не поменять
+    private void sendError(HttpExchange exchange, int status, String message, long started) throws IOException {
+        stats.recordError(System.nanoTime() - started);
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        send(exchange, status, "text/plain; charset=utf-8",
+                (message == null ? "" : message + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
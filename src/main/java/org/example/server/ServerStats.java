@@ -0,0 +1,67 @@
+package org.example.server;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Счетчики сервера: запросы, вычисленные точки, ошибки и время обработки
+public class ServerStats {
+
+    private final long startedAt = System.nanoTime();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder points = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+    void record(long evaluatedPoints, long latencyNanos) {
+        requests.increment();
+        points.add(evaluatedPoints);
+        totalLatency.add(latencyNanos);
+        maxLatency.accumulate(latencyNanos);
+    }
+
+    void recordError(long latencyNanos) {
+        errors.increment();
+        record(0, latencyNanos);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getPoints() {
+        return points.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getRequestsPerSecond() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return seconds > 0 ? getRequests() / seconds : 0.0;
+    }
+
+    public double getPointsPerSecond() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return seconds > 0 ? getPoints() / seconds : 0.0;
+    }
+
+    public double getMeanLatencyMicros() {
+        long count = getRequests();
+        return count == 0 ? 0.0 : totalLatency.sum() / 1e3 / count;
+    }
+
+    public double getMaxLatencyMicros() {
+        return maxLatency.get() / 1e3;
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"requests\":%d,\"points\":%d,\"errors\":%d,\"requestsPerSecond\":%.1f,"
+                        + "\"pointsPerSecond\":%.1f,\"meanLatencyMicros\":%.1f,\"maxLatencyMicros\":%.1f}",
+                getRequests(), getPoints(), getErrors(), getRequestsPerSecond(), getPointsPerSecond(),
+                getMeanLatencyMicros(), getMaxLatencyMicros());
+    }
+}
@@ -0,0 +1,218 @@
+package org.example.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.example.functions.base.MathFunction;
+
+// Адаптивная выборка функции: отрезки начальной сетки делятся пополам, пока значение в середине
+// отличается от линейной интерполяции по концам больше, чем на tolerance * max(1, |f|), но не мельче minStep.
+// Отрезок, на одном конце которого есть значение, а на другом NaN или бесконечность, делится до minStep,
+// так что граница области определения и полюса оказываются зажаты между соседними точками.
+// Отрезки обрабатываются параллельно, точки возвращаются отсортированными по x
+public class AdaptiveSampler {
+
+    // Сколько отрезков начальной сетки обрабатывается одной задачей без деления
+    private static final int INTERVALS_PER_TASK = 16;
+
+    // До этой глубины половинки отрезка вычисляются в отдельных задачах, глубже — в текущей
+    private static final int FORK_DEPTH = 6;
+
+    private final MathFunction function;
+    private final double precision;
+    private final double tolerance;
+    private final double minStep;
+
+    public AdaptiveSampler(MathFunction function, double precision, double tolerance, double minStep) {
+        if (Double.isNaN(tolerance) || Double.isInfinite(tolerance) || tolerance <= 0) {
+            throw new IllegalArgumentException("Допуск должен быть положительным");
+        }
+        if (Double.isNaN(minStep) || Double.isInfinite(minStep) || minStep <= 0) {
+            throw new IllegalArgumentException("Минимальный шаг должен быть положительным");
+        }
+
+        this.function = function;
+        this.precision = precision;
+        this.tolerance = tolerance;
+        this.minStep = minStep;
+    }
+
+    public Samples sample(double start, double end, double step) {
+        return sample(start, end, step, ForkJoinPool.commonPool());
+    }
+
+    // step — шаг начальной сетки, то есть наибольшее расстояние между соседними точками
+    public Samples sample(double start, double end, double step, ForkJoinPool pool) {
+        Grid grid = new Grid(start, end, step);
+        int size = Math.toIntExact(grid.size());
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        grid.fill(0, xs, size);
+        function.calculate(xs, 0, size, precision, ys);
+
+        Samples samples = new Samples(Math.max(16, 2 * size));
+        if (size > 0) {
+            samples.add(xs[0], ys[0]);
+            if (size > 1) {
+                samples.addAll(pool.invoke(new GridTask(xs, ys, 0, size - 1)));
+            }
+        }
+        return samples;
+    }
+
+    // Отрезки начальной сетки [from, to); каждый добавляет свои внутренние точки и правый конец.
+    // Задачи ForkJoin формально Serializable, но не сериализуются: они держат ссылку на сэмплер и функцию
+    @SuppressWarnings("serial")
+    private class GridTask extends RecursiveTask<Samples> {
+        private final double[] xs;
+        private final double[] ys;
+        private final int from;
+        private final int to;
+
+        GridTask(double[] xs, double[] ys, int from, int to) {
+            this.xs = xs;
+            this.ys = ys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Samples compute() {
+            if (to - from <= INTERVALS_PER_TASK) {
+                Samples samples = new Samples(4 * (to - from));
+                for (int i = from; i < to; i++) {
+                    refine(xs[i], ys[i], xs[i + 1], ys[i + 1], 0, samples);
+                }
+                return samples;
+            }
+
+            int middle = (from + to) >>> 1;
+            GridTask left = new GridTask(xs, ys, from, middle);
+            left.fork();
+            Samples right = new GridTask(xs, ys, middle, to).compute();
+            Samples result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    // Половинки одного отрезка на малой глубине
+    @SuppressWarnings("serial")
+    private class RefineTask extends RecursiveTask<Samples> {
+        private final double a;
+        private final double fa;
+        private final double b;
+        private final double fb;
+        private final int depth;
+
+        RefineTask(double a, double fa, double b, double fb, int depth) {
+            this.a = a;
+            this.fa = fa;
+            this.b = b;
+            this.fb = fb;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Samples compute() {
+            Samples samples = new Samples(16);
+            refine(a, fa, b, fb, depth, samples);
+            return samples;
+        }
+    }
+
+    private void refine(double a, double fa, double b, double fb, int depth, Samples out) {
+        double m = 0.5 * (a + b);
+        if (b - a <= minStep || m <= a || m >= b) {
+            out.add(b, fb);
+            return;
+        }
+
+        double fm = function.calculate(m, precision);
+        if (!needsSplit(fa, fm, fb)) {
+            out.add(m, fm);
+            out.add(b, fb);
+            return;
+        }
+
+        if (depth < FORK_DEPTH) {
+            RefineTask left = new RefineTask(a, fa, m, fm, depth + 1);
+            left.fork();
+            Samples right = new RefineTask(m, fm, b, fb, depth + 1).compute();
+            out.addAll(left.join());
+            out.addAll(right);
+        } else {
+            refine(a, fa, m, fm, depth + 1, out);
+            refine(m, fm, b, fb, depth + 1, out);
+        }
+    }
+
+    private boolean needsSplit(double fa, double fm, double fb) {
+        boolean finiteA = Double.isFinite(fa);
+        boolean finiteM = Double.isFinite(fm);
+        boolean finiteB = Double.isFinite(fb);
+        if (!finiteA && !finiteM && !finiteB) {
+            return false;
+        }
+        if (!finiteA || !finiteM || !finiteB) {
+            return true;
+        }
+        return Math.abs(fm - 0.5 * (fa + fb)) > tolerance * Math.max(1.0, Math.abs(fm));
+    }
+
+    // Точки выборки в порядке возрастания x
+    public static class Samples {
+        private double[] xs;
+        private double[] ys;
+        private int size;
+
+        Samples(int capacity) {
+            xs = new double[Math.max(1, capacity)];
+            ys = new double[xs.length];
+        }
+
+        void add(double x, double y) {
+            ensureCapacity(size + 1);
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        void addAll(Samples other) {
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.xs, 0, xs, size, other.size);
+            System.arraycopy(other.ys, 0, ys, size, other.size);
+            size += other.size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > xs.length) {
+                int length = Math.max(capacity, 2 * xs.length);
+                xs = Arrays.copyOf(xs, length);
+                ys = Arrays.copyOf(ys, length);
+            }
+        }
+
+        public double x(int index) {
+            return xs[index];
+        }
+
+        public double y(int index) {
+            return ys[index];
+        }
+
+        // Каждая точка вычислена ровно один раз, поэтому это и число вычислений функции
+        public int size() {
+            return size;
+        }
+
+        double[] xs() {
+            return xs;
+        }
+
+        double[] ys() {
+            return ys;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.util;
+
+import java.io.IOException;
+
+import org.example.functions.base.MathFunction;
+
+// Табулирование функции в двоичный файл (см. BinaryTableWriter) — компактнее и быстрее CSV
+public class BinaryExporter {
+
+    // Размер пачки аргументов для пакетного вычисления
+    private static final int BATCH_SIZE = 1024;
+
+    public void exportToBinary(MathFunction function, double start, double end, double step,
+                               double precision, String filename) throws IOException {
+        Grid grid = new Grid(start, end, step);
+        try (BinaryTableWriter writer = new BinaryTableWriter(filename, grid, precision)) {
+            double[] xs = new double[BATCH_SIZE];
+            double[] results = new double[BATCH_SIZE];
+            for (long from = 0; from < grid.size(); from += BATCH_SIZE) {
+                int count = (int) Math.min(BATCH_SIZE, grid.size() - from);
+                grid.fill(from, xs, count);
+                function.calculate(xs, 0, count, precision, results);
+                writer.write(results, count);
+            }
+        }
+    }
+}
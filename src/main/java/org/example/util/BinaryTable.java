@@ -0,0 +1,165 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Таблица, записанная BinaryTableWriter, отображенная в память только для чтения.
+// Значения не копируются в кучу: страницы подгружает ОС по мере обращения.
+// Экземпляр неизменяем и потокобезопасен
+public class BinaryTable {
+
+    private final double start;
+    private final double step;
+    private final long count;
+    private final double precision;
+
+    // Сегменты одинакового размера (кроме последнего), начиная с начала файла
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+
+    private BinaryTable(double start, double step, long count, double precision,
+                        ByteBuffer[] segments, int segmentSize) {
+        this.start = start;
+        this.step = step;
+        this.count = count;
+        this.precision = precision;
+        this.segments = segments;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+    }
+
+    public static BinaryTable open(String filename) throws IOException {
+        return open(filename, BinaryTableWriter.DEFAULT_SEGMENT_SIZE);
+    }
+
+    // Размер сегмента при чтении — степень двойки, чтобы индекс сегмента считался сдвигом
+    public static BinaryTable open(String filename, int segmentSize) throws IOException {
+        BinaryTableWriter.checkSegmentSize(segmentSize);
+        if (Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("Размер сегмента для чтения должен быть степенью двойки");
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < BinaryTableWriter.HEADER_SIZE) {
+                throw new IOException("Файл слишком мал для таблицы: " + filename);
+            }
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryTableWriter.HEADER_SIZE);
+            header.order(BinaryTableWriter.ORDER);
+            if (header.getLong() != BinaryTableWriter.MAGIC) {
+                throw new IOException("Неизвестный формат файла: " + filename);
+            }
+            double start = header.getDouble();
+            double step = header.getDouble();
+            long count = header.getLong();
+            double precision = header.getDouble();
+
+            if (count < 0 || fileSize != BinaryTableWriter.HEADER_SIZE + count * Double.BYTES) {
+                throw new IOException("Размер файла не совпадает с числом узлов в заголовке: " + filename);
+            }
+
+            // Отображение остается действительным и после закрытия канала
+            int segmentCount = (int) ((fileSize + segmentSize - 1) / segmentSize);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(segmentSize, fileSize - position)).order(BinaryTableWriter.ORDER);
+            }
+            return new BinaryTable(start, step, count, precision, segments, segmentSize);
+        }
+    }
+
+    // Значение в узле index
+    public double value(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Индекс " + index + " вне таблицы из " + count + " узлов");
+        }
+        return read(index);
+    }
+
+    // Значение в ближайшем узле; NaN вне [start, start + (count - 1) * step]
+    public double nearest(double x) {
+        double position = (x - start) / step;
+        if (!inRange(position)) {
+            return Double.NaN;
+        }
+        return read(Math.round(position));
+    }
+
+    public double linear(double x) {
+        double position = (x - start) / step;
+        if (!inRange(position)) {
+            return Double.NaN;
+        }
+
+        long i = Math.min((long) position, count - 2);
+        if (i < 0) {
+            return read(0);
+        }
+        double t = position - i;
+        double y0 = read(i);
+        double y1 = read(i + 1);
+        return y0 + t * (y1 - y0);
+    }
+
+    // Кубическая интерполяция Лагранжа по четырем соседним узлам; у краев окно сдвигается внутрь
+    public double cubic(double x) {
+        double position = (x - start) / step;
+        if (!inRange(position)) {
+            return Double.NaN;
+        }
+        if (count < 4) {
+            return linear(x);
+        }
+
+        long i = Math.max(0, Math.min((long) position - 1, count - 4));
+        double t = position - i;
+        double y0 = read(i);
+        double y1 = read(i + 1);
+        double y2 = read(i + 2);
+        double y3 = read(i + 3);
+
+        // Узлы окна в точках 0, 1, 2, 3
+        double t0 = t;
+        double t1 = t - 1;
+        double t2 = t - 2;
+        double t3 = t - 3;
+        return -y0 * t1 * t2 * t3 / 6
+                + y1 * t0 * t2 * t3 / 2
+                - y2 * t0 * t1 * t3 / 2
+                + y3 * t0 * t1 * t2 / 6;
+    }
+
+    public double getStart() {
+        return start;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public double getPrecision() {
+        return precision;
+    }
+
+    private boolean inRange(double position) {
+        // Допуск на округление, как при подсчете узлов в Grid
+        return position >= -1e-9 && position <= count - 1 + 1e-9;
+    }
+
+    private double read(long index) {
+        long offset = BinaryTableWriter.HEADER_SIZE + index * Double.BYTES;
+        return segments[(int) (offset >>> segmentShift)].getDouble((int) (offset & segmentMask));
+    }
+}
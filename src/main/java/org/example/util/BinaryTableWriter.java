@@ -0,0 +1,116 @@
+package org.example.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Запись таблицы значений на равномерной сетке в двоичный файл через отображение в память.
+// Формат (little-endian):
+//   0  long   MAGIC
+//   8  double start
+//   16 double step
+//   24 long   count
+//   32 double precision
+//   40..64    резерв
+//   64 double[count] значения f(start + i * step)
+// Файл отображается сегментами, поэтому размер не ограничен 2 ГБ одного MappedByteBuffer
+public class BinaryTableWriter implements Closeable {
+
+    static final long MAGIC = 0x31304241544f5054L; // "TPOTAB01"
+    static final int HEADER_SIZE = 64;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // Размер сегмента по умолчанию; кратен 8, так что значение не попадает на границу сегментов
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long count;
+    private final int segmentSize;
+    private final long fileSize;
+
+    private DoubleBuffer segment;
+    private long segmentStart;
+    private long written;
+
+    public BinaryTableWriter(String filename, Grid grid, double precision) throws IOException {
+        this(filename, grid, precision, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public BinaryTableWriter(String filename, Grid grid, double precision, int segmentSize) throws IOException {
+        checkSegmentSize(segmentSize);
+        this.count = grid.size();
+        this.segmentSize = segmentSize;
+        this.fileSize = HEADER_SIZE + count * Double.BYTES;
+        this.channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ORDER)
+                    .putLong(MAGIC)
+                    .putDouble(grid.getStart())
+                    .putDouble(grid.getStep())
+                    .putLong(count)
+                    .putDouble(precision);
+            header.force();
+
+            // Область значений может быть пустой, тогда размер файла задаем явно
+            if (count == 0) {
+                channel.truncate(HEADER_SIZE);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Дописывает values[0..length) к уже записанным значениям
+    public void write(double[] values, int length) throws IOException {
+        if (written + length > count) {
+            throw new IllegalStateException("Записано больше значений, чем узлов сетки: " + (written + length));
+        }
+
+        int offset = 0;
+        while (offset < length) {
+            if (segment == null || !segment.hasRemaining()) {
+                mapNextSegment();
+            }
+            int chunk = Math.min(length - offset, segment.remaining());
+            segment.put(values, offset, chunk);
+            offset += chunk;
+            written += chunk;
+        }
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (written != count) {
+                throw new IllegalStateException("Записано " + written + " значений из " + count);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void mapNextSegment() throws IOException {
+        segmentStart = segment == null ? HEADER_SIZE : segmentStart + (long) segment.capacity() * Double.BYTES;
+        long length = Math.min(segmentSize - segmentStart % segmentSize, fileSize - segmentStart);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, length).order(ORDER).asDoubleBuffer();
+    }
+
+    static void checkSegmentSize(int segmentSize) {
+        if (segmentSize < HEADER_SIZE || segmentSize % Double.BYTES != 0) {
+            throw new IllegalArgumentException("Размер сегмента должен быть кратен 8 и не меньше " + HEADER_SIZE);
+        }
+    }
+}
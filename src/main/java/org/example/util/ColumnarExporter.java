@@ -0,0 +1,85 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.logarithmic.MemoizedLn;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.MemoizedSin;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+
+// Экспорт нескольких именованных функций в один CSV "X,<имя1>,<имя2>,...".
+// Все столбцы считаются за один проход по x: если функции построены над общими MemoizedSin и MemoizedLn
+// (см. standardColumns), синус и логарифм строки вычисляются один раз на все столбцы
+public class ColumnarExporter {
+
+    private final String separator;
+
+    public ColumnarExporter() {
+        this(",");
+    }
+
+    public ColumnarExporter(String separator) {
+        this.separator = separator;
+    }
+
+    // Столбцы пишутся в порядке обхода columns, поэтому нужен упорядоченный Map
+    public void export(Map<String, MathFunction> columns, double start, double end, double step,
+                       double precision, String filename) throws IOException {
+        MathFunction[] functions = columns.values().toArray(new MathFunction[0]);
+        String[] header = new String[functions.length + 1];
+        header[0] = "X";
+        int column = 1;
+        for (String name : columns.keySet()) {
+            header[column++] = name;
+        }
+
+        Grid grid = new Grid(start, end, step);
+        double[] row = new double[functions.length];
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
+            writer.writeHeader(header);
+            for (long i = 0; i < grid.size(); i++) {
+                double x = grid.x(i);
+                for (int j = 0; j < functions.length; j++) {
+                    row[j] = functions[j].calculate(x, precision);
+                }
+                writer.writeRow(x, row, functions.length);
+            }
+        }
+    }
+
+    // Система и все ее компоненты над общими запоминающими Sin и Ln.
+    // Экземпляры не потокобезопасны: для каждого потока экспорта нужен свой набор
+    public static Map<String, MathFunction> standardColumns(Sin sin, Ln ln) {
+        MemoizedSin sharedSin = new MemoizedSin(sin);
+        MemoizedLn sharedLn = new MemoizedLn(ln);
+        Cos cos = new Cos(sharedSin);
+
+        Map<String, MathFunction> columns = new LinkedHashMap<>();
+        columns.put("sin(X)", sharedSin);
+        columns.put("cos(X)", cos);
+        columns.put("tan(X)", new Tan(sharedSin, cos));
+        columns.put("cot(X)", new Cot(sharedSin, cos));
+        columns.put("sec(X)", new Sec(cos));
+        columns.put("csc(X)", new Csc(sharedSin));
+        columns.put("ln(X)", sharedLn);
+        columns.put("log_2(X)", new Log(sharedLn, 2));
+        columns.put("log_3(X)", new Log(sharedLn, 3));
+        columns.put("log_10(X)", new Log(sharedLn, 10));
+        columns.put("f(X)", new SystemFunction(sharedSin, sharedLn));
+        return columns;
+    }
+
+    public static Map<String, MathFunction> standardColumns(double epsilon, int maxIterations) {
+        return standardColumns(new Sin(epsilon, maxIterations), new Ln(epsilon, maxIterations));
+    }
+}
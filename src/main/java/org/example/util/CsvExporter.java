@@ -1,16 +1,42 @@
 package org.example.util;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.example.functions.base.MathFunction;
+import org.example.functions.system.GridEvaluator;
 
 public class CsvExporter {
 
+    // Размер пачки аргументов для пакетного вычисления
+    private static final int BATCH_SIZE = 1024;
+
+    // Размер куска сетки, который один поток вычисляет и форматирует целиком
+    private static final int CHUNK_SIZE = 4096;
+
+    // Сколько байт перед контрольной точкой читается, чтобы проверить последнюю строку
+    private static final int LOOK_BACK = 256;
+
+    // Больше этого хвост после контрольной точки не проверяется, а просто пересчитывается
+    private static final int MAX_TAIL = 64 << 20;
+
     // По умолчанию запятая, но можно изменить
     private String separator;
 
+    // Через сколько строк возобновляемый экспорт сохраняет контрольную точку
+    private int checkpointInterval = 1 << 16;
+
     public CsvExporter() {
         this(",");
     }
@@ -21,30 +47,175 @@ public class CsvExporter {
 
     public void exportToCsv(MathFunction function, double start, double end, double step,
                             double precision, String filename) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
             // Записываем заголовок
-            writer.println("X" + separator + "f(X)");
+            writer.writeHeader("X", "f(X)");
 
             // Вычисляем и записываем значения функции
-            for (double x = start; x <= end; x += step) {
-                double result = function.calculate(x, precision);
-                writer.println(x + separator + result);
+            writeRows(writer, function, new Grid(start, end, step), precision);
+        }
+    }
+
+    // Параллельный экспорт в общем пуле ForkJoin; результат побайтно совпадает с exportToCsv
+    public void exportToCsvParallel(MathFunction function, double start, double end, double step,
+                                    double precision, String filename) throws IOException {
+        exportToCsvParallel(function, start, end, step, precision, filename, ForkJoinPool.commonPool());
+    }
+
+    public void exportToCsvParallel(MathFunction function, double start, double end, double step,
+                                    double precision, String filename, Executor executor) throws IOException {
+        Grid grid = new Grid(start, end, step);
+        long chunks = (grid.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        String chunkSeparator = separator;
+
+        // Ограничиваем число кусков в работе, чтобы не держать весь файл в памяти
+        int window = 2 * (executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
+            writer.writeHeader("X", "f(X)");
+
+            ArrayDeque<CompletableFuture<CsvRowEncoder>> pending = new ArrayDeque<>();
+            try {
+                long next = 0;
+                while (next < chunks || !pending.isEmpty()) {
+                    while (next < chunks && pending.size() < window) {
+                        long from = next++ * CHUNK_SIZE;
+                        int count = (int) Math.min(CHUNK_SIZE, grid.size() - from);
+                        pending.add(CompletableFuture.supplyAsync(
+                                () -> formatChunk(function, grid, from, count, precision, chunkSeparator), executor));
+                    }
+
+                    // Куски записываются строго в порядке сетки
+                    writer.write(join(pending.poll()));
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                // Экспорт прерван: куски в окне больше не нужны. Еще не начатые не запустятся,
+                // уже начатые досчитают свой пакет, но результат будет отброшен
+                for (CompletableFuture<CsvRowEncoder> chunk : pending) {
+                    chunk.cancel(true);
+                }
+                throw e;
             }
         }
     }
 
+    // Возобновляемый экспорт: каждые checkpointInterval строк данные сбрасываются на диск и сохраняется
+    // контрольная точка в filename + ".checkpoint". После сбоя повторный вызов с теми же параметрами
+    // проверяет хвост файла, отбрасывает недописанную строку и продолжает со следующего индекса.
+    // Результат побайтно совпадает с exportToCsv
+    public void exportToCsvResumable(MathFunction function, double start, double end, double step,
+                                     double precision, String filename) throws IOException {
+        Grid grid = new Grid(start, end, step);
+        Path checkpointPath = checkpointPath(filename);
+
+        ExportCheckpoint checkpoint = ExportCheckpoint.read(checkpointPath);
+        if (checkpoint != null) {
+            checkpoint = checkpoint.matches(start, end, step, precision, separator)
+                    ? recover(Paths.get(filename), grid, checkpoint)
+                    : null;
+        }
+
+        CsvRowWriter writer;
+        if (checkpoint == null) {
+            writer = new CsvRowWriter(filename, separator);
+            writer.writeHeader("X", "f(X)");
+            writer.sync();
+            checkpoint = new ExportCheckpoint(start, end, step, precision, separator, 0, writer.position());
+            checkpoint.write(checkpointPath);
+        } else {
+            writer = new CsvRowWriter(filename, separator, checkpoint.getOffset());
+        }
+
+        try (writer) {
+            double[] xs = new double[BATCH_SIZE];
+            double[] results = new double[BATCH_SIZE];
+            long sinceCheckpoint = 0;
+            for (long from = checkpoint.getNextIndex(); from < grid.size(); from += BATCH_SIZE) {
+                int count = (int) Math.min(BATCH_SIZE, grid.size() - from);
+                grid.fill(from, xs, count);
+                function.calculate(xs, 0, count, precision, results);
+                writer.writeRows(xs, results, count);
+
+                sinceCheckpoint += count;
+                if (sinceCheckpoint >= checkpointInterval) {
+                    // Сначала данные на диске, затем точка, которая на них ссылается
+                    writer.sync();
+                    checkpoint = checkpoint.advance(from + count, writer.position());
+                    checkpoint.write(checkpointPath);
+                    sinceCheckpoint = 0;
+                }
+            }
+        }
+
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    // Экспорт через GridEvaluator: тригонометрия на сетке считается поворотом от узла к узлу
+    // с периодическим пересчетом полным рядом, значения отличаются от exportToCsv в пределах precision
+    public void exportToCsvIncremental(GridEvaluator evaluator, double start, double end, double step,
+                                       double precision, String filename) throws IOException {
+        Grid grid = new Grid(start, end, step);
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
+            writer.writeHeader("X", "f(X)");
+
+            double[] xs = new double[BATCH_SIZE];
+            double[] results = new double[BATCH_SIZE];
+            for (long from = 0; from < grid.size(); from += BATCH_SIZE) {
+                int count = (int) Math.min(BATCH_SIZE, grid.size() - from);
+                grid.fill(from, xs, count);
+                evaluator.evaluate(start, step, from, count, precision, results);
+                writer.writeRows(xs, results, count);
+            }
+        }
+    }
+
+    // Адаптивный экспорт: step — шаг начальной сетки, возле полюсов и границ области определения
+    // сетка сгущается до minStep, пока линейная интерполяция не уложится в tolerance (см. AdaptiveSampler)
+    public void exportToCsvAdaptive(MathFunction function, double start, double end, double step, double minStep,
+                                    double tolerance, double precision, String filename) throws IOException {
+        exportToCsvAdaptive(function, start, end, step, minStep, tolerance, precision, filename,
+                ForkJoinPool.commonPool());
+    }
+
+    public void exportToCsvAdaptive(MathFunction function, double start, double end, double step, double minStep,
+                                    double tolerance, double precision, String filename, ForkJoinPool pool)
+            throws IOException {
+        AdaptiveSampler.Samples samples = new AdaptiveSampler(function, precision, tolerance, minStep)
+                .sample(start, end, step, pool);
+
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
+            writer.writeHeader("X", "f(X)");
+            writer.writeRows(samples.xs(), samples.ys(), samples.size());
+        }
+    }
+
+    public static Path checkpointPath(String filename) {
+        return Paths.get(filename + ".checkpoint");
+    }
+
     public void exportToCsvWithIntermediateResults(MathFunction function, double start, double end,
                                                    double step, double precision, String filename, MathFunction intermediateFunction,
                                                    String intermediateName) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
             // Записываем заголовок
-            writer.println("X" + separator + intermediateName + separator + "f(X)");
+            writer.writeHeader("X", intermediateName, "f(X)");
 
-            // Вычисляем и записываем значения функции
-            for (double x = start; x <= end; x += step) {
-                double intermediateResult = intermediateFunction.calculate(x, precision);
-                double result = function.calculate(x, precision);
-                writer.println(x + separator + intermediateResult + separator + result);
+            // Вычисляем и записываем значения функции пачками
+            Grid grid = new Grid(start, end, step);
+            double[] xs = new double[BATCH_SIZE];
+            double[] intermediateResults = new double[BATCH_SIZE];
+            double[] results = new double[BATCH_SIZE];
+            for (long from = 0; from < grid.size(); from += BATCH_SIZE) {
+                int count = (int) Math.min(BATCH_SIZE, grid.size() - from);
+                grid.fill(from, xs, count);
+
+                intermediateFunction.calculate(xs, 0, count, precision, intermediateResults);
+                function.calculate(xs, 0, count, precision, results);
+                for (int i = 0; i < count; i++) {
+                    writer.writeRow(xs[i], intermediateResults[i], results[i]);
+                }
             }
         }
     }
@@ -52,16 +223,159 @@ public class CsvExporter {
     // Экспорт результатов модуля в CSV файл
     public void exportModule(MathFunction module, double start, double end, double step,
                              double precision, String filename) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
+        try (CsvRowWriter writer = new CsvRowWriter(filename, separator)) {
             // Заголовок файла
-            writer.println("X" + separator + "Результат модуля (X)");
+            writer.writeHeader("X", "Результат модуля (X)");
 
             // Вычисляем значения с заданным шагом
-            for (double x = start; x <= end; x += step) {
-                double result = module.calculate(x, precision);
-                writer.println(x + separator + result);
+            writeRows(writer, module, new Grid(start, end, step), precision);
+        }
+    }
+
+    private void writeRows(CsvRowWriter writer, MathFunction function, Grid grid, double precision)
+            throws IOException {
+        double[] xs = new double[BATCH_SIZE];
+        double[] results = new double[BATCH_SIZE];
+        for (long from = 0; from < grid.size(); from += BATCH_SIZE) {
+            int count = (int) Math.min(BATCH_SIZE, grid.size() - from);
+            grid.fill(from, xs, count);
+            function.calculate(xs, 0, count, precision, results);
+            writer.writeRows(xs, results, count);
+        }
+    }
+
+    // Проверяет файл относительно контрольной точки и находит последнюю целую строку после нее.
+    // null — файл не соответствует точке, экспорт придется начать заново
+    private ExportCheckpoint recover(Path path, Grid grid, ExportCheckpoint checkpoint) throws IOException {
+        long offset = checkpoint.getOffset();
+        long index = checkpoint.getNextIndex();
+        if (!Files.exists(path) || Files.size(path) < offset || index > grid.size()) {
+            return null;
+        }
+
+        long windowStart = Math.max(0, offset - LOOK_BACK);
+        byte[] window = readWindow(path, windowStart, (int) Math.min(MAX_TAIL, Files.size(path) - windowStart));
+        Charset charset = Charset.defaultCharset();
+        byte[] lineSeparator = System.lineSeparator().getBytes(charset);
+
+        // Строка прямо перед точкой: заголовок или узел index - 1
+        int position = (int) (offset - windowStart);
+        if (index == 0) {
+            byte[] header = ("X" + separator + "f(X)" + System.lineSeparator()).getBytes(charset);
+            if (offset != header.length || !regionEquals(window, 0, header)) {
+                return null;
+            }
+        } else {
+            if (position < lineSeparator.length
+                    || !regionEquals(window, position - lineSeparator.length, lineSeparator)) {
+                return null;
+            }
+            int lineStart = lastIndexOf(window, lineSeparator, position - lineSeparator.length);
+            if (lineStart < 0 || !isRow(window, lineStart, position - lineSeparator.length, grid.x(index - 1))) {
+                return null;
+            }
+        }
+
+        // Строки после точки, дописанные до сбоя, принимаются, пока они целые и совпадают с сеткой
+        while (index < grid.size()) {
+            int lineEnd = indexOf(window, lineSeparator, position);
+            if (lineEnd < 0 || !isRow(window, position, lineEnd, grid.x(index))) {
+                break;
             }
+            position = lineEnd + lineSeparator.length;
+            index++;
+        }
+        return checkpoint.advance(index, windowStart + position);
+    }
+
+    // Строка "x<разделитель>y" с тем же x и каноничной записью y
+    private boolean isRow(byte[] bytes, int from, int to, double x) {
+        String line = new String(bytes, from, to - from, Charset.defaultCharset());
+        int separatorIndex = line.indexOf(separator);
+        if (separatorIndex < 0 || !line.substring(0, separatorIndex).equals(DoubleFormatter.toString(x))) {
+            return false;
+        }
+
+        String y = line.substring(separatorIndex + separator.length());
+        try {
+            return y.equals(DoubleFormatter.toString(Double.parseDouble(y)));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static byte[] readWindow(Path path, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private static boolean regionEquals(byte[] bytes, int from, byte[] expected) {
+        if (from < 0 || from + expected.length > bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+        for (int i = from; i + pattern.length <= bytes.length; i++) {
+            if (regionEquals(bytes, i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Начало строки, заканчивающейся в позиции end; -1, если начало не попало в окно
+    private static int lastIndexOf(byte[] bytes, byte[] pattern, int end) {
+        for (int i = end - pattern.length; i >= 0; i--) {
+            if (regionEquals(bytes, i, pattern)) {
+                return i + pattern.length;
+            }
+        }
+        return -1;
+    }
+
+    // Кусок для параллельного режима форматируется тем же кодировщиком, что и в последовательном
+    private static CsvRowEncoder formatChunk(MathFunction function, Grid grid, long from, int count,
+                                             double precision, String separator) {
+        double[] xs = new double[count];
+        double[] results = new double[count];
+        grid.fill(from, xs, count);
+        function.calculate(xs, 0, count, precision, results);
+
+        CsvRowEncoder rows = new CsvRowEncoder(separator, count * 40);
+        rows.appendRows(xs, results, count);
+        return rows;
+    }
+
+    private static CsvRowEncoder join(CompletableFuture<CsvRowEncoder> chunk) throws IOException {
+        try {
+            return chunk.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Ошибка при вычислении куска сетки", e.getCause());
+        }
+    }
+
+    public void setCheckpointInterval(int rows) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Интервал контрольных точек должен быть положительным");
         }
+        this.checkpointInterval = rows;
     }
 
     // Изменить разделитель
@@ -0,0 +1,95 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+// Накапливает строки CSV в байтовом буфере; числа пишутся DoubleFormatter'ом без промежуточных String
+public class CsvRowEncoder {
+
+    private final byte[] separator;
+    private final byte[] lineSeparator;
+    private byte[] buffer;
+    private int size;
+
+    public CsvRowEncoder(String separator, int initialCapacity) {
+        // Кодировка та же, что была у FileWriter
+        this.separator = separator.getBytes(Charset.defaultCharset());
+        this.lineSeparator = System.lineSeparator().getBytes(Charset.defaultCharset());
+        this.buffer = new byte[Math.max(initialCapacity, 64)];
+    }
+
+    public void appendHeader(String... columns) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                appendBytes(separator);
+            }
+            appendBytes(columns[i].getBytes(Charset.defaultCharset()));
+        }
+        appendBytes(lineSeparator);
+    }
+
+    public void appendRow(double x, double y) {
+        ensureCapacity(2 * DoubleFormatter.MAX_LENGTH + separator.length + lineSeparator.length);
+        size = DoubleFormatter.format(x, buffer, size);
+        appendBytes(separator);
+        size = DoubleFormatter.format(y, buffer, size);
+        appendBytes(lineSeparator);
+    }
+
+    public void appendRow(double x, double a, double b) {
+        ensureCapacity(3 * DoubleFormatter.MAX_LENGTH + 2 * separator.length + lineSeparator.length);
+        size = DoubleFormatter.format(x, buffer, size);
+        appendBytes(separator);
+        size = DoubleFormatter.format(a, buffer, size);
+        appendBytes(separator);
+        size = DoubleFormatter.format(b, buffer, size);
+        appendBytes(lineSeparator);
+    }
+
+    // x и значения всех столбцов строки
+    public void appendRow(double x, double[] values, int count) {
+        ensureCapacity((count + 1) * (DoubleFormatter.MAX_LENGTH + separator.length) + lineSeparator.length);
+        size = DoubleFormatter.format(x, buffer, size);
+        for (int i = 0; i < count; i++) {
+            appendBytes(separator);
+            size = DoubleFormatter.format(values[i], buffer, size);
+        }
+        appendBytes(lineSeparator);
+    }
+
+    public void appendRows(double[] xs, double[] ys, int count) {
+        for (int i = 0; i < count; i++) {
+            appendRow(xs[i], ys[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, size);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private void appendBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + extra));
+        }
+    }
+}
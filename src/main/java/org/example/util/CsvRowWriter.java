@@ -0,0 +1,100 @@
+package org.example.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Запись CSV в файл через FileChannel большими блоками вместо построчного println
+public class CsvRowWriter implements Closeable {
+
+    // Буфер сбрасывается в файл, когда в нем накопится столько байт
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private final FileChannel channel;
+    private final CsvRowEncoder encoder;
+
+    public CsvRowWriter(String filename, String separator) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filename),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.encoder = new CsvRowEncoder(separator, FLUSH_THRESHOLD + 256);
+    }
+
+    // Продолжение существующего файла: все после position отбрасывается
+    public CsvRowWriter(String filename, String separator, long position) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.encoder = new CsvRowEncoder(separator, FLUSH_THRESHOLD + 256);
+    }
+
+    public void writeHeader(String... columns) throws IOException {
+        encoder.appendHeader(columns);
+        flushIfFull();
+    }
+
+    public void writeRow(double x, double y) throws IOException {
+        encoder.appendRow(x, y);
+        flushIfFull();
+    }
+
+    public void writeRow(double x, double a, double b) throws IOException {
+        encoder.appendRow(x, a, b);
+        flushIfFull();
+    }
+
+    public void writeRow(double x, double[] values, int count) throws IOException {
+        encoder.appendRow(x, values, count);
+        flushIfFull();
+    }
+
+    public void writeRows(double[] xs, double[] ys, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            encoder.appendRow(xs[i], ys[i]);
+            flushIfFull();
+        }
+    }
+
+    // Готовый кусок, отформатированный в другом потоке
+    public void write(CsvRowEncoder chunk) throws IOException {
+        flush();
+        chunk.writeTo(channel);
+    }
+
+    public void flush() throws IOException {
+        encoder.writeTo(channel);
+        encoder.reset();
+    }
+
+    // Смещение в файле, на котором окажется следующая строка
+    public long position() throws IOException {
+        return channel.position() + encoder.size();
+    }
+
+    // Сбрасывает буфер и дожидается записи на диск
+    public void sync() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushIfFull() throws IOException {
+        if (encoder.size() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.example.util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+// Кратчайшее представление double, которое однозначно читается обратно (алгоритм Schubfach, R. Giulietti).
+// Формат совпадает с Double.toString: обычная запись для 1e-3 <= |v| < 1e7, иначе d.dddE±n.
+// Пишет прямо в массив байт, без промежуточных строк.
+public final class DoubleFormatter {
+
+    // Самая длинная запись: "-2.2250738585072014E-308"
+    public static final int MAX_LENGTH = 24;
+
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7FF;
+    private static final long C_TINY = 3;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    // Приближения 10^-k сверху: g = g1 * 2^63 + g0, считаются один раз при загрузке класса
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    private static final long[] POW10 = new long[18];
+
+    private static final byte[] NAN = {'N', 'a', 'N'};
+    private static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = 10 * POW10[i - 1];
+        }
+
+        BigInteger ten = BigInteger.TEN;
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            // 10^-k = β * 2^r, 2^125 <= β < 2^126, g = floor(β) + 1
+            int r = flog2pow10(-k) - 125;
+            BigInteger num = k <= 0 ? ten.pow(-k) : BigInteger.ONE;
+            BigInteger den = k > 0 ? ten.pow(k) : BigInteger.ONE;
+            if (r >= 0) {
+                den = den.shiftLeft(r);
+            } else {
+                num = num.shiftLeft(-r);
+            }
+            BigInteger g = num.divide(den).add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private DoubleFormatter() {
+    }
+
+    // Записывает v в buf начиная с pos (нужно до MAX_LENGTH байт), возвращает позицию после записи
+    public static int format(double v, byte[] buf, int pos) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+
+        if (bq == BQ_MASK) {
+            if (t != 0) {
+                return copy(NAN, buf, pos);
+            }
+            if (bits < 0) {
+                buf[pos++] = '-';
+            }
+            return copy(INFINITY, buf, pos);
+        }
+
+        if (bits < 0) {
+            buf[pos++] = '-';
+        }
+
+        if (bq != 0) {
+            // Нормальное число: v = c * 2^q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            // Целые значения без дробной части форматируются сразу
+            if (0 < mq && mq < P) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(f, 0, buf, pos);
+                }
+            }
+            return toDecimal(-mq, c, 0, buf, pos);
+        }
+
+        if (t != 0) {
+            // Субнормальное число
+            return t < C_TINY
+                    ? toDecimal(Q_MIN, 10 * t, -1, buf, pos)
+                    : toDecimal(Q_MIN, t, 0, buf, pos);
+        }
+
+        buf[pos++] = '0';
+        buf[pos++] = '.';
+        buf[pos++] = '0';
+        return pos;
+    }
+
+    public static String toString(double v) {
+        byte[] buf = new byte[MAX_LENGTH];
+        int length = format(v, buf, 0);
+        return new String(buf, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static int toDecimal(int q, long c, int dk, byte[] buf, int pos) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // Граница между степенями двойки: нижний интервал вдвое уже
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Пробуем обойтись на одну цифру короче
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(upin ? sp10 : tp10, k, buf, pos);
+            }
+        }
+
+        long tt = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (tt << 2) + out <= vbr;
+        if (uin != win) {
+            return toChars(uin ? s : tt, k + dk, buf, pos);
+        }
+
+        // Оба кандидата внутри интервала: берем ближайший, при равенстве четный
+        long cmp = vb - ((s + tt) << 1);
+        return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : tt, k + dk, buf, pos);
+    }
+
+    // Округленное к нечетному произведение g * cp / 2^127
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    // Значение f * 10^e в формате Double.toString
+    private static int toChars(long f, int e, byte[] buf, int pos) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+
+        int len = 1;
+        while (len < POW10.length && f >= POW10[len]) {
+            len++;
+        }
+
+        // Десятичный порядок первой цифры
+        int exp = e + len - 1;
+
+        if (exp >= -3 && exp < 7) {
+            if (exp >= 0) {
+                int intDigits = exp + 1;
+                if (len > intDigits) {
+                    return writeDigits(f, len, intDigits, buf, pos);
+                }
+                pos = writeDigits(f, len, -1, buf, pos);
+                for (int i = len; i < intDigits; i++) {
+                    buf[pos++] = '0';
+                }
+                buf[pos++] = '.';
+                buf[pos++] = '0';
+                return pos;
+            }
+
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (int i = -1; i > exp; i--) {
+                buf[pos++] = '0';
+            }
+            return writeDigits(f, len, -1, buf, pos);
+        }
+
+        if (len == 1) {
+            buf[pos++] = (byte) ('0' + f);
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+        } else {
+            pos = writeDigits(f, len, 1, buf, pos);
+        }
+
+        buf[pos++] = 'E';
+        if (exp < 0) {
+            buf[pos++] = '-';
+            exp = -exp;
+        }
+        if (exp >= 100) {
+            buf[pos++] = (byte) ('0' + exp / 100);
+            exp %= 100;
+            buf[pos++] = (byte) ('0' + exp / 10);
+        } else if (exp >= 10) {
+            buf[pos++] = (byte) ('0' + exp / 10);
+        }
+        buf[pos++] = (byte) ('0' + exp % 10);
+        return pos;
+    }
+
+    // Пишет len цифр f; если dotAfter >= 0, после dotAfter цифр ставится точка
+    private static int writeDigits(long f, int len, int dotAfter, byte[] buf, int pos) {
+        int end = pos + len + (dotAfter >= 0 ? 1 : 0);
+        int p = end;
+        for (int i = len - 1; i >= 0; i--) {
+            buf[--p] = (byte) ('0' + f % 10);
+            f /= 10;
+            if (i == dotAfter) {
+                buf[--p] = '.';
+            }
+        }
+        return end;
+    }
+
+    private static int copy(byte[] text, byte[] buf, int pos) {
+        System.arraycopy(text, 0, buf, pos, text.length);
+        return pos + text.length;
+    }
+
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+// Контрольная точка возобновляемого экспорта: параметры задания, следующий индекс сетки
+// и смещение в файле, до которого все строки записаны полностью.
+// Сама функция не сохраняется: продолжать нужно тем же вычислителем
+public class ExportCheckpoint {
+
+    private final double start;
+    private final double end;
+    private final double step;
+    private final double precision;
+    private final String separator;
+    private final long nextIndex;
+    private final long offset;
+
+    public ExportCheckpoint(double start, double end, double step, double precision, String separator,
+                            long nextIndex, long offset) {
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.precision = precision;
+        this.separator = separator;
+        this.nextIndex = nextIndex;
+        this.offset = offset;
+    }
+
+    // null, если файла нет или он поврежден
+    public static ExportCheckpoint read(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        try {
+            return new ExportCheckpoint(
+                    Double.parseDouble(properties.getProperty("start")),
+                    Double.parseDouble(properties.getProperty("end")),
+                    Double.parseDouble(properties.getProperty("step")),
+                    Double.parseDouble(properties.getProperty("precision")),
+                    properties.getProperty("separator"),
+                    Long.parseLong(properties.getProperty("nextIndex")),
+                    Long.parseLong(properties.getProperty("offset")));
+        } catch (NullPointerException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Пишем во временный файл и переименовываем, чтобы при сбое не остался наполовину записанный файл
+    public void write(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("start", Double.toString(start));
+        properties.setProperty("end", Double.toString(end));
+        properties.setProperty("step", Double.toString(step));
+        properties.setProperty("precision", Double.toString(precision));
+        properties.setProperty("separator", separator);
+        properties.setProperty("nextIndex", Long.toString(nextIndex));
+        properties.setProperty("offset", Long.toString(offset));
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            properties.store(out, null);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Относится ли точка к тому же заданию
+    public boolean matches(double start, double end, double step, double precision, String separator) {
+        return Double.compare(this.start, start) == 0 && Double.compare(this.end, end) == 0
+                && Double.compare(this.step, step) == 0 && Double.compare(this.precision, precision) == 0
+                && this.separator.equals(separator);
+    }
+
+    public ExportCheckpoint advance(long nextIndex, long offset) {
+        return new ExportCheckpoint(start, end, step, precision, separator, nextIndex, offset);
+    }
+
+    public long getNextIndex() {
+        return nextIndex;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+}
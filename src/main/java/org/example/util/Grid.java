@@ -0,0 +1,48 @@
+package org.example.util;
+
+// Равномерная сетка [start, end] с шагом step; x вычисляется по индексу, без накопления ошибки
+public class Grid {
+
+    // Допуск на округление при подсчете числа узлов, в долях шага
+    private static final double COUNT_TOLERANCE = 1e-9;
+
+    private final double start;
+    private final double step;
+    private final long size;
+
+    public Grid(double start, double end, double step) {
+        if (Double.isNaN(start) || Double.isInfinite(start) || Double.isNaN(end) || Double.isInfinite(end)) {
+            throw new IllegalArgumentException("Границы сетки должны быть конечными числами");
+        }
+        if (Double.isNaN(step) || Double.isInfinite(step) || step <= 0) {
+            throw new IllegalArgumentException("Шаг сетки должен быть положительным");
+        }
+
+        this.start = start;
+        this.step = step;
+        this.size = end < start ? 0 : (long) Math.floor((end - start) / step + COUNT_TOLERANCE) + 1;
+    }
+
+    public double x(long index) {
+        return start + index * step;
+    }
+
+    // Заполняет xs[0..count) узлами, начиная с индекса from
+    public void fill(long from, double[] xs, int count) {
+        for (int i = 0; i < count; i++) {
+            xs[i] = x(from + i);
+        }
+    }
+
+    public double getStart() {
+        return start;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public long size() {
+        return size;
+    }
+}
@@ -0,0 +1,162 @@
+package cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.cache.CacheStats;
+import org.example.functions.cache.CachingMathFunction;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class CachingMathFunctionTest {
+
+    private final double precision = 1e-6;
+
+    @Test
+    void testRepeatedCallsHitCache() {
+        AtomicInteger calls = new AtomicInteger();
+        MathFunction counting = (x, p) -> {
+            calls.incrementAndGet();
+            return x * 2;
+        };
+        CachingMathFunction cached = new CachingMathFunction(counting, 64);
+
+        assertEquals(2.0, cached.calculate(1.0, precision), 0.0);
+        assertEquals(2.0, cached.calculate(1.0, precision), 0.0);
+        assertEquals(4.0, cached.calculate(2.0, precision), 0.0);
+
+        CacheStats stats = cached.getStats();
+        assertEquals(2, calls.get());
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getEvictions());
+    }
+
+    @Test
+    void testPrecisionIsPartOfKey() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingMathFunction cached = new CachingMathFunction((x, p) -> {
+            calls.incrementAndGet();
+            return p;
+        }, 64);
+
+        assertEquals(1e-3, cached.calculate(1.0, 1e-3), 0.0);
+        assertEquals(1e-6, cached.calculate(1.0, 1e-6), 0.0);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testNaNValuesAreCached() {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CachingMathFunction cached = new CachingMathFunction(function, 64);
+
+        assertTrue(Double.isNaN(cached.calculate(0.0, precision)));
+        assertTrue(Double.isNaN(cached.calculate(0.0, precision)));
+        assertEquals(1, cached.getStats().getHits());
+    }
+
+    @Test
+    void testBoundedSizeEvicts() {
+        CachingMathFunction cached = new CachingMathFunction((x, p) -> x, 16, 1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, cached.calculate(i, precision), 0.0);
+        }
+
+        assertEquals(16, cached.getCapacity());
+        assertTrue(cached.getStats().getEvictions() >= 1000 - 16);
+    }
+
+    @Test
+    void testConcurrentReadersSeeCorrectValues() throws Exception {
+        Sin sin = new Sin(1e-10, 200);
+        CachingMathFunction cached = new CachingMathFunction(sin, 256, 4);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        double x = (i % 500) * 0.01;
+                        assertEquals(sin.calculate(x, precision), cached.calculate(x, precision), 0.0);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(cached.getStats().getHits() > 0);
+    }
+
+    @Test
+    void testBatchSendsMissesToDelegateBatchInOneCall() {
+        AtomicInteger batchCalls = new AtomicInteger();
+        AtomicInteger batchPoints = new AtomicInteger();
+        MathFunction counting = new MathFunction() {
+            @Override
+            public double calculate(double x, double p) {
+                throw new AssertionError("Промахи пакета должны идти через пакетный вызов");
+            }
+
+            @Override
+            public void calculate(double[] xs, int from, int to, double p, double[] out) {
+                batchCalls.incrementAndGet();
+                batchPoints.addAndGet(to - from);
+                for (int i = from; i < to; i++) {
+                    out[i] = xs[i] * 2;
+                }
+            }
+        };
+        CachingMathFunction cached = new CachingMathFunction(counting, 64);
+
+        double[] xs = {1.0, 2.0, 3.0, 4.0};
+        double[] out = new double[xs.length];
+        cached.calculate(xs, 0, 2, precision, out);
+        cached.calculate(xs, 0, xs.length, precision, out);
+
+        assertEquals(2, batchCalls.get());
+        assertEquals(4, batchPoints.get());
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(xs[i] * 2, out[i], 0.0);
+        }
+        assertEquals(2, cached.getStats().getHits());
+        assertEquals(4, cached.getStats().getMisses());
+    }
+
+    @Test
+    void testBatchMatchesSystemFunction() {
+        SystemFunction system = new SystemFunction(1e-6, 100);
+        CachingMathFunction cached = new CachingMathFunction(system, 1 << 10);
+        double[] xs = new double[300];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -6.0 + i * 0.04;
+        }
+        double[] expected = new double[xs.length];
+        double[] out = new double[xs.length];
+        system.calculate(xs, 0, xs.length, precision, expected);
+
+        cached.calculate(xs, 0, xs.length, precision, out);
+        cached.calculate(xs, 0, xs.length, precision, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(expected[i], out[i], 0.0);
+        }
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingMathFunction((x, p) -> x, 0));
+    }
+}
@@ -0,0 +1,75 @@
+package expression;
+
+import org.example.functions.expression.Expression;
+import org.example.functions.expression.ExpressionFunction;
+import org.example.functions.expression.Primitive;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class ExpressionParserTest {
+
+    private final double precision = 1e-10;
+
+    @Test
+    void testParseBuildsSameTree() {
+        Expression x = Expression.variable();
+        Expression expected = Expression.subtract(
+                Expression.power(Expression.call(Primitive.SIN, x), 2),
+                Expression.divide(Expression.log(2, x), Expression.constant(3)));
+
+        assertEquals(expected, Expression.parse("sin(x)^2 - log_2(x) / 3"));
+        assertEquals(expected, Expression.parse("  sin( x ) ^ 2-log(x, 2)/3 "));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1 + 2 * 3, 0.7, 7.0",
+            "(1 + 2) * 3, 0.7, 9.0",
+            "-x ^ 2, 3.0, -9.0",
+            "x ^ -1, 4.0, 0.25",
+            "2 * x - x / 2, 2.0, 3.0",
+            "1e-3 * x, 5.0, 0.005",
+            "pi - x, 1.0, 2.141592653589793"
+    })
+    void testArithmetic(String source, double x, double expected) {
+        assertEquals(expected, new ExpressionFunction(source).calculate(x, precision), 1e-12);
+    }
+
+    @Test
+    void testPrimitivesMatchJavaMath() {
+        String[] sources = {"sin(x)", "cos(x)", "tan(x)", "cot(x)", "sec(x)", "csc(x)", "ln(x)", "log_10(x)"};
+        // ln(10) для log_10 считается с точностью ln.getEpsilon(), как и в Log
+        Sin sin = new Sin(1e-12, 100);
+        Ln ln = new Ln(1e-12, 100);
+        double x = 0.7;
+        double[] expected = {Math.sin(x), Math.cos(x), Math.tan(x), 1 / Math.tan(x),
+                1 / Math.cos(x), 1 / Math.sin(x), Math.log(x), Math.log10(x)};
+
+        for (int i = 0; i < sources.length; i++) {
+            assertEquals(expected[i], new ExpressionFunction(sources[i], sin, ln).calculate(x, precision), 1e-9, sources[i]);
+        }
+    }
+
+    @Test
+    void testInvalidSyntax() {
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("sin(x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("foo(x)"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("x + "));
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("x ^ x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("log_1(x)"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.parse("x y"));
+    }
+
+    @Test
+    void testInvalidPrecisionGivesNaN() {
+        ExpressionFunction function = new ExpressionFunction("sin(x)");
+        assertTrue(Double.isNaN(function.calculate(0.5, 0.0)));
+        assertTrue(Double.isNaN(function.calculate(0.5, 1.5)));
+    }
+}
@@ -0,0 +1,131 @@
+package expression;
+
+import org.example.functions.expression.ExpressionFunction;
+import org.example.functions.expression.ExpressionSystem;
+import org.example.functions.expression.OptimizedExpression;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class ExpressionSystemTest {
+
+    private final double precision = 1e-6;
+    private final Sin sin = new Sin();
+    private final Ln ln = new Ln();
+
+    @Test
+    void testCommonSubexpressionsComputedOnce() {
+        OptimizedExpression negative = new ExpressionFunction(ExpressionSystem.NEGATIVE_FORMULA, sin, ln).getOptimized();
+        OptimizedExpression positive = new ExpressionFunction(ExpressionSystem.POSITIVE_FORMULA, sin, ln).getOptimized();
+
+        // sin(x) и cos(x) для всех шести тригонометрических вызовов, один ln(x) для четырех логарифмов
+        assertEquals(2, negative.getAtomCount());
+        assertEquals(1, positive.getAtomCount());
+    }
+
+    @Test
+    void testAlgebraicSimplification() {
+        OptimizedExpression cube = new ExpressionFunction("cos(x)^3 * sec(x)", sin, ln).getOptimized();
+        assertEquals("cos(x)^2", cube.toString());
+
+        // (log_10 - ln) / (log_2 / log_3), возведенное в квадрат, — это c * ln(x)^2
+        OptimizedExpression positive = new ExpressionFunction(ExpressionSystem.POSITIVE_FORMULA, sin, ln).getOptimized();
+        assertEquals(1, positive.getTermCount());
+        assertTrue(positive.toString().endsWith(" * ln(x)^2"), positive.toString());
+    }
+
+    @Test
+    void testStandardSystemMatchesSystemFunction() {
+        SystemFunction handCoded = new SystemFunction(sin, ln);
+        ExpressionSystem declarative = ExpressionSystem.standard(sin, ln);
+
+        for (double x = -7.0; x <= 20.0; x += 0.01) {
+            double expected = handCoded.calculate(x, precision);
+            double actual = declarative.calculate(x, precision);
+            if (Double.isNaN(expected)) {
+                assertTrue(Double.isNaN(actual), "Expected NaN for x = " + x);
+            } else {
+                assertEquals(expected, actual, 1e-9 * Math.max(1.0, Math.abs(expected)), "Mismatch for x = " + x);
+            }
+        }
+    }
+
+    @Test
+    void testPolesAndDivisionGuardsKept() {
+        ExpressionSystem declarative = ExpressionSystem.standard(sin, ln);
+
+        double[] poles = {0.0, -Math.PI / 2, -Math.PI, -3 * Math.PI / 2, 1.0, 1.0 + precision / 10};
+        for (double pole : poles) {
+            assertTrue(Double.isNaN(declarative.calculate(pole, precision)), "Expected NaN for x = " + pole);
+        }
+
+        // sec(x) сокращается в cos^3 * sec, но полюс cos(x) = 0 остается
+        ExpressionFunction cube = new ExpressionFunction("cos(x)^3 * sec(x)", sin, ln);
+        assertTrue(Double.isNaN(cube.calculate(-Math.PI / 2, precision)));
+        assertEquals(Math.pow(Math.cos(-1.0), 2), cube.calculate(-1.0, 1e-10), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "x / x, 0.0, 1.0, 1.0",
+            "(x - 1) / (x - 1), 1.0, 2.0, 1.0",
+            "x ^ 2 / x, 0.0, 0.5, 0.5",
+            "x ^ 2 * x ^ -2, 0.0, 3.0, 1.0"
+    })
+    void testCancelledDenominatorKeepsZero(String source, double zero, double x, double expected) {
+        // Сокращение показателей не должно превращать 0 / 0 в число
+        ExpressionFunction function = new ExpressionFunction(source, sin, ln);
+        assertTrue(Double.isNaN(function.calculate(zero, precision)), source);
+        assertTrue(Double.isNaN(function.calculate(zero + precision / 10, precision)), source);
+        assertEquals(expected, function.calculate(x, precision), 1e-12, source);
+    }
+
+    @Test
+    void testAlternatingPrecisionsKeepTheirGuards() {
+        ExpressionFunction function = new ExpressionFunction("x / x", sin, ln);
+
+        // Обработчики для разных точностей хранятся отдельно, порог охраны у каждого свой
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Double.isNaN(function.calculate(1e-8, 1e-6)));
+            assertEquals(1.0, function.calculate(1e-8, 1e-10), 0.0);
+        }
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(1.0, function.calculate(0.5, Math.pow(10, -i)), 0.0);
+        }
+        assertTrue(Double.isNaN(function.calculate(1e-8, 1e-6)));
+    }
+
+    @Test
+    void testBatchMatchesPointwise() {
+        ExpressionSystem declarative = ExpressionSystem.standard(sin, ln);
+        double[] xs = {-5.2, -2.0, -0.5, Double.NaN, 0.5, 1.001, 3.5, 1e10};
+        double[] out = new double[xs.length];
+
+        declarative.calculate(xs, 0, xs.length, precision, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(declarative.calculate(xs[i], precision), out[i], 0.0);
+        }
+    }
+
+    @Test
+    void testBranchesCheckedInOrder() {
+        ExpressionSystem system = ExpressionSystem.builder(sin, ln)
+                .branch("x < 1", "x * 2")
+                .branch("x >= 1", "ln(x)")
+                .build();
+
+        assertEquals(1.0, system.calculate(0.5, precision), 1e-12);
+        assertEquals(Math.log(4.0), system.calculate(4.0, precision), 1e-6);
+        assertTrue(Double.isNaN(ExpressionSystem.builder(sin, ln).branch("x > 0", "x").build()
+                .calculate(-1.0, precision)));
+
+        assertThrows(IllegalArgumentException.class, () -> ExpressionSystem.builder().branch("y > 0", "x"));
+        assertThrows(IllegalStateException.class, () -> ExpressionSystem.builder().build());
+    }
+}
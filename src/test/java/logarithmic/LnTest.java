@@ -94,4 +94,31 @@ public class LnTest {
 
         assertEquals(lnA + lnB, lnAB, delta);
     }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.MIN_VALUE, 1e-300, 1e-10, 0.70710678, 1.41421357, 1e10, 1e300, Double.MAX_VALUE})
+    void testLnAcrossDoubleRange(double x) {
+        // Сведение по показателю степени дает одинаковую точность во всем диапазоне double
+        assertEquals(Math.log(x), ln.calculate(x, 1e-12), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-2, 1e-3, 1e-4, 1e-5, 1e-6, 3e-4})
+    void testLowPrecisionPathStaysWithinPrecision(double p) {
+        // Грубые точности считаются готовым многочленом, но гарантия |ошибка| <= precision сохраняется
+        for (double x = 0.01; x <= 50.0; x *= 1.013) {
+            assertEquals(Math.log(x), ln.calculate(x, p), p, "x = " + x);
+        }
+    }
+
+    @Test
+    void testFloatBatchMatchesScalar() {
+        float[] xs = {0.125f, 0.9f, 1.0f, 2.5f, 1e6f, 0.0f, -1.0f, Float.NaN};
+        float[] out = new float[xs.length];
+        ln.calculate(xs, 0, xs.length, 1e-4, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals((float) ln.calculate(xs[i], 1e-4), out[i], 0.0f, "x = " + xs[i]);
+        }
+    }
 }
@@ -2,7 +2,10 @@ package logarithmic;
 
 import org.example.functions.logarithmic.Ln;
 import org.example.functions.logarithmic.Log;
+import org.example.functions.logarithmic.LogFamily;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -139,4 +142,51 @@ public class LogarithmicFunctionsTest {
 
         assertEquals(log10_x_div_y, log10_x_minus_log10_y, delta);
     }
+
+    @Test
+    void testBatchMatchesPointwise() {
+        double[] xs = {-1.0, 0.0, 1e-5, 0.5, 1.0, 2.0, Math.E, 10.0, 1e9};
+        double[] lnOut = new double[xs.length];
+        double[] log3Out = new double[xs.length];
+
+        ln.calculate(xs, 0, xs.length, precision, lnOut);
+        log3.calculate(xs, 0, xs.length, precision, log3Out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(ln.calculate(xs[i], precision), lnOut[i], 0.0);
+            assertEquals(log3.calculate(xs[i], precision), log3Out[i], 0.0);
+        }
+    }
+
+    @Test
+    void testBatchInPlace() {
+        double[] xs = {-2.0, 2.0, 8.0};
+
+        log2.calculate(xs, 0, xs.length, precision, xs);
+
+        assertTrue(Double.isNaN(xs[0]));
+        assertEquals(1.0, xs[1], delta);
+        assertEquals(3.0, xs[2], delta);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.25", "1.0", "2.0", "9.0", "1000.0"})
+    void testLogFamilyMatchesLog(double x) {
+        LogFamily family = new LogFamily(ln, 10, 2, 3);
+        double[] out = new double[family.size()];
+
+        double lnX = family.calculate(x, precision, out);
+
+        assertEquals(ln.calculate(x, precision), lnX, 0.0);
+        assertEquals(log10.calculate(x, precision), out[0], 1e-12);
+        assertEquals(log2.calculate(x, precision), out[1], 1e-12);
+        assertEquals(log3.calculate(x, precision), out[2], 1e-12);
+        assertEquals(out[1], family.fromLn(1, lnX), 0.0);
+    }
+
+    @Test
+    void testLogFamilyRejectsInvalidBase() {
+        assertThrows(IllegalArgumentException.class, () -> new LogFamily(ln, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LogFamily(ln, -2));
+    }
 }
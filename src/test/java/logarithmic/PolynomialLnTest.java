@@ -0,0 +1,37 @@
+package logarithmic;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.PolynomialLn;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PolynomialLnTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9, 1e-15})
+    void testAccuracyAtBoundPrecision(double precision) {
+        PolynomialLn ln = PolynomialLn.forPrecision(precision);
+
+        for (double x = 1e-300; x < 1e300; x *= 1.7) {
+            assertEquals(Math.log(x), ln.calculate(x, precision), precision + 1e-12 * Math.abs(Math.log(x)), "x = " + x);
+        }
+    }
+
+    @Test
+    void testTermCountIsSmall() {
+        assertTrue(PolynomialLn.forPrecision(1e-6).getTermCount() <= 5);
+        assertTrue(PolynomialLn.forPrecision(1e-15).getTermCount() <= 11);
+    }
+
+    @Test
+    void testFinerPrecisionFallsBackToSeries() {
+        PolynomialLn ln = PolynomialLn.forPrecision(1e-3);
+        Ln series = new Ln(1e-3, 100);
+
+        assertEquals(series.calculate(7.0, 1e-12), ln.calculate(7.0, 1e-12), 0.0);
+        assertTrue(Double.isNaN(ln.calculate(-1.0, 1e-3)));
+    }
+}
@@ -0,0 +1,49 @@
+package logarithmic;
+
+import org.example.functions.logarithmic.Log;
+import org.example.functions.logarithmic.TableLn;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class TableLnTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1e-6", "7, 1e-6", "7, 1e-12", "12, 1e-15"})
+    void testAccuracyWithinPrecision(int tableBits, double precision) {
+        TableLn ln = new TableLn(precision, 100, tableBits);
+
+        for (double x = 1e-315; x < 1e300; x *= 1.37) {
+            assertEquals(Math.log(x), ln.calculate(x, precision), precision + 1e-12 * Math.abs(Math.log(x)), "x = " + x);
+        }
+        for (double x = 0.5; x < 2.0; x += 0.00731) {
+            assertEquals(Math.log(x), ln.calculate(x, precision), precision, "x = " + x);
+        }
+    }
+
+    @Test
+    void testUsableThroughLnType() {
+        TableLn ln = new TableLn();
+        Log log2 = new Log(ln, 2);
+        SystemFunction tabulated = new SystemFunction(new Sin(1e-10, 200), ln);
+        SystemFunction series = new SystemFunction(1e-10, 200);
+
+        assertEquals(10.0, log2.calculate(1024.0, 1e-9), 1e-9);
+        assertEquals(series.calculate(2.7, 1e-9), tabulated.calculate(2.7, 1e-9), 1e-8);
+        assertTrue(Double.isNaN(tabulated.calculate(1.0, 1e-9)));
+    }
+
+    @Test
+    void testInvalidArgumentsAndTableBits() {
+        TableLn ln = new TableLn();
+        assertTrue(Double.isNaN(ln.calculate(0.0, 1e-6)));
+        assertTrue(Double.isNaN(ln.calculate(-3.0, 1e-6)));
+        assertEquals(3L * 128 * Double.BYTES, ln.getTableBytes());
+        assertThrows(IllegalArgumentException.class, () -> new TableLn(0));
+    }
+}
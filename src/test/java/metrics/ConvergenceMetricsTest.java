@@ -0,0 +1,94 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.MBeanServer;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.metrics.ConvergenceMetrics;
+import org.example.functions.metrics.ConvergenceSnapshot;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConvergenceMetricsTest {
+
+    @BeforeEach
+    void requireMetrics() {
+        // Метрики включаются в surefire свойством org.example.metrics
+        assumeTrue(ConvergenceMetrics.ENABLED);
+    }
+
+    @Test
+    void testConvergedSeriesCounted() {
+        Sin sin = new Sin();
+        ConvergenceSnapshot before = sin.getConvergenceSnapshot();
+
+        sin.calculate(0.5, 1e-10);
+
+        ConvergenceSnapshot after = sin.getConvergenceSnapshot();
+        assertEquals(1, after.getEvaluations() - before.getEvaluations());
+        assertEquals(before.getTruncations(), after.getTruncations());
+        assertTrue(after.getTotalIterations() - before.getTotalIterations() > 1);
+    }
+
+    @Test
+    void testTruncationCounted() {
+        // Двух членов ряда не хватает для точности 1e-10
+        Sin sin = new Sin(1e-10, 2);
+        ConvergenceSnapshot before = sin.getConvergenceSnapshot();
+
+        sin.calculate(0.7, 1e-10);
+
+        ConvergenceSnapshot after = sin.getConvergenceSnapshot();
+        assertEquals(1, after.getTruncations() - before.getTruncations());
+        assertEquals(1, after.getIterationHistogram()[2] - before.getIterationHistogram()[2]);
+    }
+
+    @Test
+    void testNaNResultsCounted() {
+        Ln ln = new Ln();
+        ConvergenceSnapshot before = ln.getConvergenceSnapshot();
+
+        ln.calculate(-1.0, 1e-6);
+        ln.calculate(new double[]{1.0, 2.0, 3.0}, 0, 3, 2.0, new double[3]);
+        ln.calculate(new double[]{-1.0, 2.0}, 0, 2, 1e-6, new double[2]);
+
+        ConvergenceSnapshot after = ln.getConvergenceSnapshot();
+        assertEquals(5, after.getNaNResults() - before.getNaNResults());
+    }
+
+    @Test
+    void testHistogramMatchesEvaluations() {
+        ConvergenceMetrics metrics = ConvergenceMetrics.forFunction("HistogramProbe");
+        metrics.recordSeries(3, false);
+        metrics.recordSeries(3, false);
+        metrics.recordSeries(1000, true);
+
+        ConvergenceSnapshot snapshot = metrics.snapshot();
+        long[] histogram = snapshot.getIterationHistogram();
+        assertEquals(3, snapshot.getEvaluations());
+        assertEquals(3, Arrays.stream(histogram).sum());
+        assertEquals(2, histogram[3]);
+        assertEquals(1, histogram[ConvergenceMetrics.MAX_TRACKED_ITERATIONS]);
+        assertEquals(1, snapshot.getTruncations());
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getEvaluations());
+    }
+
+    @Test
+    void testPublishedViaJmx() throws Exception {
+        Ln ln = new Ln();
+        ln.calculate(2.0, 1e-8);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long evaluations = (Long) server.getAttribute(ConvergenceMetrics.objectName("Ln"), "Evaluations");
+        assertTrue(evaluations >= 1);
+        assertEquals("Ln", server.getAttribute(ConvergenceMetrics.objectName("Ln"), "FunctionName"));
+    }
+}
@@ -0,0 +1,85 @@
+package server;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.example.functions.base.MathFunction;
+import org.example.server.EvaluationServer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// Локальная нагрузка пачками по 1024 точки: печатает пропускную способность для разного числа клиентов.
+// Проверяются только корректность ответов и счетчики, поскольку рост зависит от числа ядер машины
+public class EvaluationServerLoadTest {
+
+    private static final int BATCH = 1024;
+    private static final int REQUESTS_PER_CLIENT = 10;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void testConcurrentBatchClients(int clients) throws Exception {
+        Map<String, MathFunction> functions = EvaluationServer.defaultFunctions(1e-6, 100);
+        MathFunction system = functions.get("system");
+
+        double[] xs = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            xs[i] = -5.0 + 10.0 * i / BATCH;
+        }
+        double[] expected = new double[BATCH];
+        system.calculate(xs, 0, BATCH, 1e-6, expected);
+        ByteBuffer body = ByteBuffer.allocate(BATCH * 8).order(ByteOrder.LITTLE_ENDIAN);
+        body.asDoubleBuffer().put(xs);
+
+        try (EvaluationServer server = new EvaluationServer(new InetSocketAddress("localhost", 0), functions, 1e-6)) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + server.getPort() + "/batch/system"))
+                    .header("Content-Type", "application/octet-stream")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.array()))
+                    .build();
+
+            ExecutorService pool = Executors.newFixedThreadPool(clients);
+            long started = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                results.add(pool.submit(() -> {
+                    int ok = 0;
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        double[] values = new double[BATCH];
+                        ByteBuffer.wrap(response.body()).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values);
+                        if (response.statusCode() == 200 && Arrays.equals(expected, values)) {
+                            ok++;
+                        }
+                    }
+                    return ok;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(REQUESTS_PER_CLIENT, result.get());
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            pool.shutdown();
+
+            long points = (long) clients * REQUESTS_PER_CLIENT * BATCH;
+            System.out.printf("Клиентов: %d, точек/с: %.0f, средняя задержка: %.1f мкс%n",
+                    clients, points / seconds, server.getStats().getMeanLatencyMicros());
+            assertEquals(points, server.getStats().getPoints());
+            assertEquals(0, server.getStats().getErrors());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.net.InetSocketAddress;
+
+import org.example.functions.base.MathFunction;
+import org.example.server.EvaluationServer;
+import org.example.util.DoubleFormatter;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EvaluationServerTest {
+
+    private final double precision = 1e-6;
+    private final Map<String, MathFunction> functions = EvaluationServer.defaultFunctions(precision, 100);
+    private final HttpClient client = HttpClient.newHttpClient();
+    private EvaluationServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new EvaluationServer(new InetSocketAddress("localhost", 0), functions, precision);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testSinglePoint() throws Exception {
+        HttpResponse<String> response = get("/evaluate/system?x=-2.0&precision=1e-6");
+        assertEquals(200, response.statusCode());
+        assertEquals(DoubleFormatter.toString(functions.get("system").calculate(-2.0, precision)),
+                response.body().trim());
+
+        assertEquals(404, get("/evaluate/unknown?x=1").statusCode());
+        assertEquals(400, get("/evaluate/sin").statusCode());
+        assertEquals(400, get("/evaluate/sin?x=abc").statusCode());
+    }
+
+    @Test
+    void testBinaryBatch() throws Exception {
+        double[] xs = {-5.2, -2.0, -0.5, 0.5, 1.001, 3.5};
+        ByteBuffer body = ByteBuffer.allocate(xs.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        body.asDoubleBuffer().put(xs);
+
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri("/batch/system"))
+                        .header("Content-Type", "application/octet-stream")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body.array())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        double[] results = new double[xs.length];
+        ByteBuffer.wrap(response.body()).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(results);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(functions.get("system").calculate(xs[i], precision), results[i], 0.0);
+        }
+    }
+
+    @Test
+    void testCsvBatch() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/batch/ln?precision=1e-8"))
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofString("1.0\n2.0\n\n10.0\n")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        String[] lines = response.body().split("\\R");
+        assertEquals("X,f(X)", lines[0]);
+        assertEquals(4, lines.length);
+        assertEquals("2.0," + DoubleFormatter.toString(functions.get("ln").calculate(2.0, 1e-8)), lines[2]);
+    }
+
+    @Test
+    void testStatsAndLoad() throws Exception {
+        // Несколько клиентов параллельно; все ответы верны, счетчики сходятся
+        int clients = 8;
+        int requestsPerClient = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            results.add(pool.submit(() -> {
+                int ok = 0;
+                for (int i = 0; i < requestsPerClient; i++) {
+                    double x = -3.0 + 0.01 * (client * requestsPerClient + i);
+                    String expected = DoubleFormatter.toString(functions.get("system").calculate(x, precision));
+                    HttpResponse<String> response = get("/evaluate/system?x=" + x);
+                    if (response.statusCode() == 200 && response.body().trim().equals(expected)) {
+                        ok++;
+                    }
+                }
+                return ok;
+            }));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(requestsPerClient, result.get());
+        }
+        pool.shutdown();
+
+        assertEquals(clients * requestsPerClient, server.getStats().getRequests());
+        String stats = get("/stats").body();
+        assertTrue(stats.contains("\"requests\":" + clients * requestsPerClient), stats);
+    }
+
+    @Test
+    void testUnexpectedFailureIsAnsweredAndCounted() throws Exception {
+        // Исключение не из-за аргументов: клиент получает 500, а /stats учитывает ошибку
+        Map<String, MathFunction> broken = Map.of("broken", (x, p) -> {
+            throw new IllegalStateException("сбой");
+        });
+        server.close();
+        server = new EvaluationServer(new InetSocketAddress("localhost", 0), broken, precision);
+        server.start();
+
+        HttpResponse<String> response = get("/evaluate/broken?x=1");
+        assertEquals(500, response.statusCode());
+        assertTrue(response.body().contains("сбой"), response.body());
+        assertEquals(1, server.getStats().getErrors());
+        assertTrue(get("/stats").body().contains("\"errors\":1"));
+    }
+
+    @Test
+    void testWrongMethodIsRejectedEverywhere() throws Exception {
+        HttpRequest.BodyPublisher empty = HttpRequest.BodyPublishers.noBody();
+        assertEquals(405, client.send(HttpRequest.newBuilder(uri("/stats")).POST(empty).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(405, client.send(HttpRequest.newBuilder(uri("/evaluate/sin?x=1")).POST(empty).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(405, get("/batch/sin").statusCode());
+        assertEquals(3, server.getStats().getErrors());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -2,6 +2,7 @@ package system;
 
 import org.example.functions.logarithmic.Ln;
 import org.example.functions.logarithmic.Log;
+import org.example.functions.system.CompiledSystemFunction;
 import org.example.functions.system.SystemFunction;
 import org.example.functions.trigonometric.Cos;
 import org.example.functions.trigonometric.Cot;
@@ -10,7 +11,9 @@ import org.example.functions.trigonometric.Sec;
 import org.example.functions.trigonometric.Sin;
 import org.example.functions.trigonometric.Tan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -177,4 +180,96 @@ public class FunctionSystemIntegrationTest {
         double yCalculated = systemFunction.calculate(x, precision);
         assertEquals(yExpected, yCalculated, delta);
     }
+
+    @Test
+    void testFusedNegativeBranchMatchesComposition() {
+        // Система, построенная по одному Sin, считает sin и cos один раз и должна совпадать побитово
+        SystemFunction fused = new SystemFunction(sin, ln);
+
+        for (double x = -7.0; x <= 0.0; x += 0.01) {
+            assertEquals(systemFunction.calculate(x, precision), fused.calculate(x, precision), 0.0,
+                    "Mismatch for x = " + x);
+        }
+
+        double[] poles = {0.0, -Math.PI / 2, -Math.PI, -3 * Math.PI / 2, -2 * Math.PI};
+        for (double pole : poles) {
+            assertTrue(Double.isNaN(fused.calculate(pole, precision)), "Expected NaN for x = " + pole);
+        }
+    }
+
+    @Test
+    void testFusedPositiveBranchMatchesComposition() {
+        // ln(x) считается один раз; log_b(x) через умножение на 1/ln(b) отличается лишь округлением
+        SystemFunction fused = new SystemFunction(sin, ln);
+
+        for (double x = 0.01; x <= 20.0; x += 0.01) {
+            double expected = systemFunction.calculate(x, precision);
+            double actual = fused.calculate(x, precision);
+            if (Double.isNaN(expected)) {
+                assertTrue(Double.isNaN(actual), "Expected NaN for x = " + x);
+            } else {
+                assertEquals(expected, actual, 1e-12 * Math.max(1.0, Math.abs(expected)), "Mismatch for x = " + x);
+            }
+        }
+
+        assertTrue(Double.isNaN(fused.calculate(1.0, precision)));
+    }
+
+    @Test
+    void testCompiledMatchesFusedBitForBit() {
+        SystemFunction fused = new SystemFunction(sin, ln);
+        CompiledSystemFunction compiled = fused.compile(precision);
+
+        for (double x = -7.0; x <= 20.0; x += 0.01) {
+            assertEquals(fused.calculate(x, precision), compiled.calculate(x, precision), 0.0,
+                    "Mismatch for x = " + x);
+        }
+
+        assertTrue(Double.isNaN(compiled.calculate(-Math.PI / 2, precision)));
+        assertTrue(Double.isNaN(compiled.calculate(1.0, precision)));
+        assertTrue(Double.isNaN(compiled.calculate(Double.NaN, precision)));
+        assertTrue(Double.isNaN(compiled.calculate(Double.NEGATIVE_INFINITY, precision)));
+        assertTrue(Double.isNaN(compiled.calculate(Double.POSITIVE_INFINITY, precision)));
+    }
+
+    @Test
+    void testCompilationsKeepTheirOwnPrecision() {
+        // У каждой компиляции свое дерево в static final поле своей копии класса
+        SystemFunction fused = new SystemFunction(sin, ln);
+        CompiledSystemFunction coarse = fused.compile(1e-3);
+        CompiledSystemFunction fine = fused.compile(1e-12);
+
+        for (double x = -7.0; x <= 20.0; x += 0.1) {
+            assertEquals(fused.calculate(x, 1e-3), coarse.evaluate(x), 0.0, "Mismatch for x = " + x);
+            assertEquals(fused.calculate(x, 1e-12), fine.evaluate(x), 0.0, "Mismatch for x = " + x);
+        }
+        assertNotEquals(coarse.evaluate(-2.0), fine.evaluate(-2.0));
+    }
+
+    @Test
+    void testCompiledCompositionMatchesInterpreted() {
+        CompiledSystemFunction compiled = systemFunction.compile(precision);
+
+        for (double x = -7.0; x <= 20.0; x += 0.05) {
+            assertEquals(systemFunction.calculate(x, precision), compiled.calculate(x, precision), 0.0,
+                    "Mismatch for x = " + x);
+        }
+    }
+
+    @Test
+    void testCompiledFallsBackForOtherPrecision() {
+        SystemFunction fused = new SystemFunction(sin, ln);
+        CompiledSystemFunction compiled = fused.compile(precision);
+        double[] xs = {-2.0, -0.5, 0.5, 3.5};
+        double[] out = new double[xs.length];
+
+        compiled.calculate(xs, 0, xs.length, 1e-3, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(fused.calculate(xs[i], 1e-3), out[i], 0.0);
+            assertEquals(fused.calculate(xs[i], 1e-3), compiled.calculate(xs[i], 1e-3), 0.0);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> fused.compile(0.0));
+        assertThrows(IllegalArgumentException.class, () -> fused.compile(Double.NaN));
+    }
 }
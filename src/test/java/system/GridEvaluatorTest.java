@@ -0,0 +1,169 @@
+package system;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.GridEvaluator;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class GridEvaluatorTest {
+
+    // Десятки тысяч шагов подряд: ошибка рекуррентности не должна накапливаться
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9, 1e-12})
+    public void testSinAndCosStayWithinPrecision(double precision) {
+        Sin sin = new Sin();
+        int count = 20001;
+        double start = -100.0;
+        double step = 0.01;
+        double[] sinValues = new double[count];
+        double[] cosValues = new double[count];
+        GridEvaluator.of(sin, GridEvaluator.SIN).evaluate(start, step, 0, count, precision, sinValues);
+        GridEvaluator.of(sin, GridEvaluator.COS).evaluate(start, step, 0, count, precision, cosValues);
+
+        for (int i = 0; i < count; i++) {
+            double x = start + i * step;
+            assertEquals(Math.sin(x), sinValues[i], precision, "x = " + x);
+            assertEquals(Math.cos(x), cosValues[i], precision, "x = " + x);
+        }
+    }
+
+    @Test
+    public void testTanMatchesFunction() {
+        Sin sin = new Sin();
+        Tan tan = new Tan(sin, new Cos(sin));
+        int count = 5000;
+        double[] values = new double[count];
+        GridEvaluator.of(sin, GridEvaluator.TAN).evaluate(-10.0, 0.003, 0, count, 1e-9, values);
+
+        for (int i = 0; i < count; i++) {
+            double x = -10.0 + i * 0.003;
+            double expected = tan.calculate(x, 1e-9);
+            assertEquals(expected, values[i], 1e-6 * Math.max(1, expected * expected), "x = " + x);
+        }
+    }
+
+    @Test
+    public void testSystemMatchesFunctionAwayFromPoles() {
+        SystemFunction function = new SystemFunction(new Sin(), new Ln());
+        GridEvaluator evaluator = GridEvaluator.of(function);
+        double start = -6.0;
+        double step = 0.001;
+        int count = 12001;
+        double[] values = new double[count];
+        evaluator.evaluate(start, step, 0, count, 1e-9, values);
+
+        for (int i = 0; i < count; i++) {
+            double x = start + i * step;
+            if (Math.abs(Math.sin(x)) < 0.05 || Math.abs(Math.cos(x)) < 0.05 || Math.abs(x - 1) < 0.05
+                    || Math.abs(x) < 0.05) {
+                continue;
+            }
+            double expected = function.calculate(x, 1e-9);
+            assertEquals(expected, values[i], 1e-5 * Math.max(1, Math.abs(expected)), "x = " + x);
+        }
+    }
+
+    @Test
+    public void testResultDoesNotDependOnChunking() {
+        GridEvaluator evaluator = GridEvaluator.of(new SystemFunction(new Sin(), new Ln()));
+        int count = 5000;
+        double[] whole = new double[count];
+        evaluator.evaluate(-4.0, 0.001, 0, count, 1e-6, whole);
+
+        double[] chunked = new double[count];
+        double[] chunk = new double[37];
+        for (int from = 0; from < count; from += chunk.length) {
+            int length = Math.min(chunk.length, count - from);
+            evaluator.evaluate(-4.0, 0.001, from, length, 1e-6, chunk);
+            System.arraycopy(chunk, 0, chunked, from, length);
+        }
+        assertArrayEquals(whole, chunked);
+    }
+
+    @Test
+    public void testFunctionWithoutRecurrenceIsEvaluatedDirectly() {
+        MathFunction square = (x, precision) -> x * x;
+        double[] values = new double[4];
+        GridEvaluator.of(square).evaluate(1.0, 0.5, 2, 4, 1e-6, values);
+        assertArrayEquals(new double[]{4.0, 6.25, 9.0, 12.25}, values);
+    }
+
+    @Test
+    public void testInvalidPrecisionFallsBackToFunction() {
+        double[] values = new double[3];
+        GridEvaluator.of(new Sin(), GridEvaluator.SIN).evaluate(0.0, 0.1, 0, 3, 2.0, values);
+        for (double value : values) {
+            assertTrue(Double.isNaN(value));
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> GridEvaluator.of(new Sin(), GridEvaluator.SIN).evaluate(0.0, 0.1, 0, 4, 1e-6, values));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9, 1e-12})
+    public void testLnOnArithmeticGridStaysWithinPrecision(double precision) {
+        Ln ln = new Ln();
+        GridEvaluator evaluator = GridEvaluator.of(ln);
+        int count = 20001;
+        double start = -1.0;
+        double step = 0.005;
+        double[] values = new double[count];
+        evaluator.evaluate(start, step, 0, count, precision, values);
+
+        for (int i = 0; i < count; i++) {
+            double x = start + i * step;
+            if (x <= 0) {
+                assertTrue(Double.isNaN(values[i]), "x = " + x);
+            } else {
+                // Блоки у границы области определения считаются самим Ln, его ошибка может быть больше precision
+                double tolerance = Math.max(precision, Math.abs(ln.calculate(x, precision) - Math.log(x)));
+                assertEquals(Math.log(x), values[i], tolerance, "x = " + x);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9, 1e-12})
+    public void testLogOnGeometricGridStaysWithinPrecision(double precision) {
+        Ln ln = new Ln(1e-12, 100);
+        GridEvaluator evaluator = GridEvaluator.of(new Log(ln, 2));
+        int count = 5000;
+        double[] values = new double[count];
+        evaluator.evaluateGeometric(1e-3, 1.01, 0, count, precision, values);
+
+        for (int i = 0; i < count; i++) {
+            double x = GridEvaluator.geometricX(1e-3, 1.01, i);
+            assertEquals(Math.log(x) / Math.log(2), values[i], precision, "x = " + x);
+        }
+    }
+
+    @Test
+    public void testGeometricResultDoesNotDependOnChunking() {
+        GridEvaluator evaluator = GridEvaluator.of(new SystemFunction(new Sin(), new Ln()));
+        int count = 3000;
+        double[] whole = new double[count];
+        evaluator.evaluateGeometric(0.01, 1.002, 0, count, 1e-6, whole);
+
+        double[] chunked = new double[count];
+        double[] chunk = new double[101];
+        for (int from = 0; from < count; from += chunk.length) {
+            int length = Math.min(chunk.length, count - from);
+            evaluator.evaluateGeometric(0.01, 1.002, from, length, 1e-6, chunk);
+            System.arraycopy(chunk, 0, chunked, from, length);
+        }
+        assertArrayEquals(whole, chunked);
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.evaluateGeometric(-1.0, 1.002, 0, 1, 1e-6, chunk));
+    }
+}
@@ -0,0 +1,133 @@
+package system;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.PlannedSystemFunction;
+import org.example.functions.system.PrecisionPlanner;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PrecisionPlannerTest {
+
+    private static final double A_SQUARED = Math.pow((1 / Math.log(10) - 1) * Math.log(2) / Math.log(3), 2);
+
+    // Эталон по Math в форме без сокращения: (c - 1) / s^2 = -1 / (1 + c), 1 + c = 2 cos^2(x / 2)
+    private static double reference(double x) {
+        if (x <= 0) {
+            double s = Math.sin(x);
+            double c = Math.cos(x);
+            double half = Math.cos(x / 2);
+            return c * c * c * c + 1 - 1 / (2 * half * half) - s * s / (c * c * c);
+        }
+        double lnX = Math.log(x);
+        return A_SQUARED * lnX * lnX;
+    }
+
+    // Так систему строит Main: epsilon 1e-6, а множители 1/ln(основание) пересчитывает planned()
+    private static PlannedSystemFunction planned() {
+        return new SystemFunction(1e-6, 100).planned();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9})
+    void testPlannedErrorStaysWithinPrecision(double precision) {
+        PlannedSystemFunction function = planned();
+
+        for (double x = -12.0; x <= 30.0; x += 0.00731) {
+            double result = function.calculate(x, precision);
+            if (Double.isNaN(result) || !function.isAttainable(x, precision)) {
+                continue;
+            }
+            assertEquals(reference(x), result, precision, "x = " + x);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-6, 1e-10})
+    void testTinyPositiveArgumentsWithDefaultEpsilon(double precision) {
+        // При x ~ 1e-16 результат ~ 1e2, и ошибка множителей 1/ln(основание) с epsilon 1e-6 превысила бы precision
+        PlannedSystemFunction function = planned();
+
+        for (double x = 1e-16; x <= 1e-11; x *= 1.037) {
+            double result = function.calculate(x, precision);
+            double error = Math.abs(result - reference(x));
+            assertTrue(error <= precision || !function.isAttainable(x, precision),
+                    "x = " + x + ", error = " + error);
+        }
+    }
+
+    @Test
+    void testNegativeBranchTightensTowardsPoles() {
+        double precision = 1e-6;
+        double far = PrecisionPlanner.componentPrecision(-Math.PI / 4, precision);
+        double near = PrecisionPlanner.componentPrecision(-Math.PI / 2 + 1e-2, precision);
+
+        // Формула для x ≤ 0 усиливает ошибку sin и cos всюду, а возле полюсов — на порядки сильнее
+        assertTrue(far < precision);
+        assertTrue(near < far * 1e-3);
+        assertTrue(PrecisionPlanner.isAttainable(-Math.PI / 4, precision));
+        assertFalse(PrecisionPlanner.isAttainable(-Math.PI / 2 + 1e-4, precision));
+    }
+
+    @Test
+    void testPositiveBranchRelaxesWhereWellConditioned() {
+        double precision = 1e-6;
+
+        // Возле x = 1 результат ~ ln^2(x) почти не зависит от ошибки ln(x), ряд можно оборвать раньше
+        assertTrue(PrecisionPlanner.componentPrecision(2.0, precision) > precision);
+        assertTrue(PrecisionPlanner.componentPrecision(0.5, precision) > precision);
+        assertTrue(PrecisionPlanner.componentPrecision(1e10, precision) < precision);
+        // В полосе у x = 1, где решают проверки на деление на ноль, ослабления нет
+        assertTrue(PrecisionPlanner.componentPrecision(1.0 + 2e-6, precision) <= precision);
+    }
+
+    @Test
+    void testNanAndPolesMatchUnplannedFunction() {
+        SystemFunction fused = new SystemFunction(1e-6, 100);
+        PlannedSystemFunction function = fused.planned();
+        double precision = 1e-6;
+
+        double[] xs = {0.0, -Math.PI / 2, -Math.PI, 1.0, 1.0 + 1e-7, Double.NaN, Double.NEGATIVE_INFINITY};
+        for (double x : xs) {
+            assertEquals(Double.isNaN(fused.calculate(x, precision)), Double.isNaN(function.calculate(x, precision)),
+                    "x = " + x);
+        }
+        assertTrue(Double.isNaN(function.calculate(-1.0, 0.0)));
+    }
+
+    @Test
+    void testIllConditionedPointsAreCounted() {
+        PlannedSystemFunction function = planned();
+
+        function.calculate(-Math.PI / 4, 1e-6);
+        function.calculate(3.0, 1e-6);
+        assertEquals(0, function.getIllConditionedCount());
+
+        double result = function.calculate(-Math.PI / 2 + 1e-4, 1e-6);
+        assertFalse(Double.isNaN(result));
+        assertEquals(1, function.getIllConditionedCount());
+    }
+
+    @Test
+    void testPlanningRequiresFusedComponents() {
+        Sin sin = new Sin();
+        Cos cos = new Cos(sin);
+        Ln ln = new Ln();
+        SystemFunction composed = new SystemFunction(cos, new Sec(cos), new Cot(sin, cos), new Tan(sin, cos),
+                new Csc(sin), ln, new Log(ln, 10), new Log(ln, 2), new Log(ln, 3));
+
+        assertThrows(IllegalStateException.class, composed::planned);
+    }
+}
@@ -0,0 +1,105 @@
+package system;
+
+import java.util.List;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.SingularityIndex;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Cot;
+import org.example.functions.trigonometric.Csc;
+import org.example.functions.trigonometric.Sec;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SingularityIndexTest {
+
+    @Test
+    public void testClassification() {
+        assertEquals(SingularityIndex.Kind.TRIG_POLE, SingularityIndex.classify(0.0, 1e-6));
+        assertEquals(SingularityIndex.Kind.TRIG_POLE, SingularityIndex.classify(-Math.PI / 2, 1e-6));
+        assertEquals(SingularityIndex.Kind.TRIG_POLE, SingularityIndex.classify(-Math.PI + 1e-7, 1e-6));
+        assertEquals(SingularityIndex.Kind.TRIG_POLE, SingularityIndex.classify(-7 * Math.PI / 2, 1e-6));
+        assertEquals(SingularityIndex.Kind.LOG_ZERO, SingularityIndex.classify(1.0, 1e-6));
+        assertEquals(SingularityIndex.Kind.LOG_ZERO, SingularityIndex.classify(1.0 - 5e-7, 1e-6));
+
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(-1.0, 1e-6));
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(-Math.PI / 2 + 1e-5, 1e-6));
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(1e-9, 1e-6));
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(1.0 + 1e-5, 1e-6));
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(Double.NaN, 1e-6));
+        assertEquals(SingularityIndex.Kind.REGULAR, SingularityIndex.classify(-Math.PI / 2, 2.0));
+    }
+
+    // Всё, что индекс отбросил, дала бы NaN и композиция из отдельных функций, которая индексом не пользуется
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9})
+    public void testSingularPointsAreNaNInFullEvaluation(double precision) {
+        Sin sin = new Sin(1e-12, 200);
+        Ln ln = new Ln(1e-12, 200);
+        Cos cos = new Cos(sin);
+        SystemFunction composed = new SystemFunction(cos, new Sec(cos), new Cot(sin, cos), new Tan(sin, cos),
+                new Csc(sin), ln, new Log(ln, 10), new Log(ln, 2), new Log(ln, 3));
+
+        double[] centers = {-3 * Math.PI / 2, -Math.PI, -Math.PI / 2, 0.0, 1.0};
+        int singular = 0;
+        for (double center : centers) {
+            for (int i = -400; i <= 400; i++) {
+                double x = center + i * precision / 200;
+                if (SingularityIndex.isSingular(x, precision)) {
+                    singular++;
+                    assertTrue(Double.isNaN(composed.calculate(x, precision)), "x = " + x);
+                }
+            }
+        }
+        assertTrue(singular > 0);
+    }
+
+    @Test
+    public void testFusedSystemMatchesComposedAroundPoles() {
+        Sin sin = new Sin(1e-6, 100);
+        Ln ln = new Ln(1e-6, 100);
+        SystemFunction fused = new SystemFunction(sin, ln);
+        Cos cos = new Cos(sin);
+        SystemFunction composed = new SystemFunction(cos, new Sec(cos), new Cot(sin, cos), new Tan(sin, cos),
+                new Csc(sin), ln, new Log(ln, 10), new Log(ln, 2), new Log(ln, 3));
+
+        for (int i = -300; i <= 300; i++) {
+            double x = -Math.PI / 2 + i * 1e-8;
+            assertEquals(Double.isNaN(composed.calculate(x, 1e-6)), Double.isNaN(fused.calculate(x, 1e-6)),
+                    "x = " + x);
+        }
+    }
+
+    @Test
+    public void testSingularRanges() {
+        double precision = 1e-4;
+        List<SingularityIndex.Range> ranges = SingularityIndex.singularRanges(-4.0, 2.0, precision);
+
+        // -π, -π/2, 0 и 1; -3π/2 ≈ -4.71 за пределами отрезка
+        assertEquals(4, ranges.size());
+        assertTrue(ranges.get(0).contains(-Math.PI));
+        assertTrue(ranges.get(1).contains(-Math.PI / 2));
+        assertTrue(ranges.get(2).contains(0.0));
+        assertTrue(ranges.get(3).contains(1.0));
+
+        for (SingularityIndex.Range range : ranges) {
+            assertTrue(range.getStart() <= range.getEnd());
+            for (int i = 0; i <= 100; i++) {
+                double x = range.getStart() + (range.getEnd() - range.getStart()) * i / 100;
+                assertTrue(SingularityIndex.isSingular(x, precision), "x = " + x);
+            }
+            assertTrue(SingularityIndex.isSingular(range.getStart(), precision));
+            assertTrue(SingularityIndex.isSingular(range.getEnd(), precision));
+        }
+        for (int i = 1; i < ranges.size(); i++) {
+            assertTrue(ranges.get(i).getStart() > ranges.get(i - 1).getEnd());
+        }
+    }
+}
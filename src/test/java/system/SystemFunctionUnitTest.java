@@ -252,4 +252,16 @@ public class SystemFunctionUnitTest {
         assertTrue(Double.isInfinite(result) || Double.isNaN(result),
                 "Результат должен быть Infinite или NaN при делении на ноль");
     }
+
+    @Test
+    void testFloatBatchMatchesScalar() {
+        SystemFunction fused = new SystemFunction();
+        float[] xs = {-2.0f, -0.5f, 0.0f, 0.5f, 2.0f, 10.0f};
+        float[] out = new float[xs.length];
+        fused.calculate(xs, 0, xs.length, 1e-3, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals((float) fused.calculate(xs[i], 1e-3), out[i], 0.0f, "x = " + xs[i]);
+        }
+    }
 }
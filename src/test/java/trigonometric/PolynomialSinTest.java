@@ -0,0 +1,41 @@
+package trigonometric;
+
+import org.example.functions.trigonometric.PolynomialSin;
+import org.example.functions.trigonometric.Sin;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PolynomialSinTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-3, 1e-6, 1e-9, 1e-12})
+    void testAccuracyAtBoundPrecision(double precision) {
+        PolynomialSin sin = PolynomialSin.forPrecision(precision);
+
+        for (double x = -10.0; x <= 10.0; x += 0.0173) {
+            assertEquals(Math.sin(x), sin.calculate(x, precision), precision, "x = " + x);
+        }
+    }
+
+    @Test
+    void testTermCountGrowsWithPrecision() {
+        assertTrue(PolynomialSin.forPrecision(1e-12).getTermCount() > PolynomialSin.forPrecision(1e-3).getTermCount());
+    }
+
+    @Test
+    void testFinerPrecisionFallsBackToSeries() {
+        PolynomialSin sin = PolynomialSin.forPrecision(1e-3);
+        Sin series = new Sin(1e-3, 100);
+
+        assertEquals(series.calculate(2.0, 1e-10), sin.calculate(2.0, 1e-10), 0.0);
+    }
+
+    @Test
+    void testInvalidBoundPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> PolynomialSin.forPrecision(0.0));
+    }
+}
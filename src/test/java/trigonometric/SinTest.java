@@ -3,6 +3,7 @@ package trigonometric;
 import org.example.functions.trigonometric.Sin;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -107,4 +108,79 @@ public class SinTest {
 
         assertNotEquals(lowPrecisionResult, highPrecisionResult, 1e-8);
     }
+
+    @Test
+    void testBatchMatchesPointwise() {
+        double[] xs = {-10.0, -Math.PI, -1.0, 0.0, 0.5, Double.NaN, 3.0, 100.0};
+        double[] out = new double[xs.length];
+
+        sin.calculate(xs, 0, xs.length, precision, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(sin.calculate(xs[i], precision), out[i], 0.0);
+        }
+    }
+
+    @Test
+    void testBatchWritesOnlyRequestedRange() {
+        double[] xs = {1.0, 2.0, 3.0, 4.0};
+        double[] out = {7.0, 7.0, 7.0, 7.0};
+
+        sin.calculate(xs, 1, 3, precision, out);
+
+        assertEquals(7.0, out[0], 0.0);
+        assertEquals(sin.calculate(2.0, precision), out[1], 0.0);
+        assertEquals(sin.calculate(3.0, precision), out[2], 0.0);
+        assertEquals(7.0, out[3], 0.0);
+    }
+
+    @Test
+    void testBatchWithInvalidPrecision() {
+        double[] xs = {0.5, 1.0};
+        double[] out = new double[xs.length];
+
+        sin.calculate(xs, 0, xs.length, 2.0, out);
+
+        assertTrue(Double.isNaN(out[0]));
+        assertTrue(Double.isNaN(out[1]));
+    }
+
+    @Test
+    void testBatchOutOfBounds() {
+        double[] xs = {0.5, 1.0};
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> sin.calculate(xs, 0, 3, precision, new double[3]));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> sin.calculate(xs, 0, 2, precision, new double[1]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.7, -2.5, 1e4, 1.6e6, 1.7e6, -1e8, 1e15, 3.5e100, -1e300, Double.MAX_VALUE})
+    void testAccuracyDoesNotDependOnMagnitude(double x) {
+        // Сведение Коди — Уэйта / Пейна — Ханека сохраняет точность и для огромных |x|
+        Sin accurate = new Sin(1e-15, 100);
+        assertEquals(Math.sin(x), accurate.calculate(x, 1e-15), 1e-14);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-2, 1e-3, 1e-4, 1e-5, 1e-6, 3e-4})
+    void testLowPrecisionPathStaysWithinPrecision(double p) {
+        // Грубые точности считаются готовым многочленом, но гарантия |ошибка| <= precision сохраняется
+        for (double x = -20.0; x <= 20.0; x += 0.0137) {
+            assertEquals(Math.sin(x), sin.calculate(x, p), p, "x = " + x);
+        }
+    }
+
+    @Test
+    void testFloatBatchMatchesScalar() {
+        float[] xs = {-3.5f, -0.25f, 0.0f, 1.0f, 2.75f, Float.NaN, Float.POSITIVE_INFINITY};
+        float[] out = new float[xs.length];
+        sin.calculate(xs, 0, xs.length, 1e-4, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals((float) sin.calculate(xs[i], 1e-4), out[i], 0.0f, "x = " + xs[i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> sin.calculate(xs, 0, xs.length, 1e-4, new float[2]));
+    }
 }
@@ -0,0 +1,63 @@
+package trigonometric;
+
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.TableSin;
+import org.example.functions.trigonometric.Tan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class TableSinTest {
+
+    @ParameterizedTest
+    @CsvSource({"16, 1e-3", "16, 1e-10", "256, 1e-6", "4096, 1e-12"})
+    void testAccuracyWithinPrecision(int tableSize, double precision) {
+        TableSin sin = new TableSin(precision, 100, tableSize);
+
+        for (double x = -20.0; x <= 20.0; x += 0.0137) {
+            assertEquals(Math.sin(x), sin.calculate(x, precision), precision, "x = " + x);
+        }
+    }
+
+    @Test
+    void testForPrecisionChoosesTableSize() {
+        TableSin coarse = TableSin.forPrecision(1e-3);
+        TableSin fine = TableSin.forPrecision(1e-9);
+
+        assertTrue(fine.getTableSize() > coarse.getTableSize());
+        assertEquals(3L * (fine.getTableSize() + 1) * Double.BYTES, fine.getTableBytes());
+        assertEquals(Math.sin(1.234), fine.calculate(1.234, 1e-9), 1e-9);
+    }
+
+    @Test
+    void testWrappersUseTable() {
+        Sin sin = new TableSin(1024);
+        Cos cos = new Cos(sin);
+        Tan tan = new Tan(sin, cos);
+
+        assertEquals(Math.cos(-2.0), cos.calculate(-2.0, 1e-8), 1e-8);
+        assertEquals(Math.tan(-2.0), tan.calculate(-2.0, 1e-8), 1e-7);
+    }
+
+    @Test
+    void testBatchUsesTable() {
+        TableSin sin = new TableSin(64);
+        double[] xs = {-3.0, -0.1, 0.0, 2.5, Double.NaN};
+        double[] out = new double[xs.length];
+
+        sin.calculate(xs, 0, xs.length, 1e-6, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(sin.calculate(xs[i], 1e-6), out[i], 0.0);
+        }
+    }
+
+    @Test
+    void testInvalidTableSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TableSin(4));
+    }
+}
@@ -0,0 +1,127 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.system.SystemFunction;
+import org.example.util.AdaptiveSampler;
+import org.example.util.CsvExporter;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveSamplerTest {
+    private static final String FILENAME = "test_adaptive.csv";
+
+    @AfterEach
+    public void cleanup() {
+        new File(FILENAME).delete();
+    }
+
+    @Test
+    public void testSamplesAreSortedAndCoverRange() {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        AdaptiveSampler.Samples samples = new AdaptiveSampler(function, 1e-6, 1e-3, 1e-4).sample(-5.0, 5.0, 0.1);
+
+        assertEquals(-5.0, samples.x(0));
+        assertEquals(5.0, samples.x(samples.size() - 1), 1e-12);
+        for (int i = 1; i < samples.size(); i++) {
+            assertTrue(samples.x(i) > samples.x(i - 1));
+            assertTrue(samples.x(i) - samples.x(i - 1) <= 0.1 + 1e-12);
+        }
+    }
+
+    @Test
+    public void testRefinesNearPolesAndCoarsensElsewhere() {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        double minStep = 1e-4;
+        AdaptiveSampler.Samples samples = new AdaptiveSampler(function, 1e-6, 1e-3, minStep).sample(-5.0, 5.0, 0.1);
+
+        // Равномерная сетка с тем же минимальным шагом дала бы 100001 точку
+        assertTrue(samples.size() < 100001 / 10, "точек: " + samples.size());
+
+        // Возле полюса x = -π/2 шаг доходит до минимального
+        double nearPole = Double.MAX_VALUE;
+        double farFromPoles = 0;
+        for (int i = 1; i < samples.size(); i++) {
+            double gap = samples.x(i) - samples.x(i - 1);
+            double middle = 0.5 * (samples.x(i) + samples.x(i - 1));
+            if (Math.abs(middle + Math.PI / 2) < 0.01) {
+                nearPole = Math.min(nearPole, gap);
+            }
+            if (middle > 2.5 && middle < 4.5) {
+                farFromPoles = Math.max(farFromPoles, gap);
+            }
+        }
+        assertTrue(nearPole <= minStep);
+        assertTrue(farFromPoles > 10 * minStep);
+    }
+
+    @Test
+    public void testDomainBoundaryIsBracketed() {
+        Ln ln = new Ln(1e-6, 100);
+        double minStep = 1e-5;
+        AdaptiveSampler.Samples samples = new AdaptiveSampler(ln, 1e-6, 1e-2, minStep).sample(-1.05, 1.0, 0.1);
+
+        int firstFinite = -1;
+        for (int i = 0; i < samples.size(); i++) {
+            if (Double.isFinite(samples.y(i))) {
+                firstFinite = i;
+                break;
+            }
+        }
+        assertTrue(firstFinite > 0);
+        assertFalse(Double.isFinite(samples.y(firstFinite - 1)));
+        assertTrue(samples.x(firstFinite) - samples.x(firstFinite - 1) <= minStep);
+    }
+
+    @Test
+    public void testResultDoesNotDependOnParallelism() {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        AdaptiveSampler sampler = new AdaptiveSampler(function, 1e-6, 1e-3, 1e-4);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            AdaptiveSampler.Samples expected = sampler.sample(-4.0, 4.0, 0.1, single);
+            AdaptiveSampler.Samples actual = sampler.sample(-4.0, 4.0, 0.1, parallel);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.x(i), actual.x(i));
+                assertEquals(expected.y(i), actual.y(i));
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        Ln ln = new Ln();
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSampler(ln, 1e-6, 0, 1e-4));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSampler(ln, 1e-6, 1e-3, -1));
+    }
+
+    @Test
+    public void testAdaptiveCsvExport() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        new CsvExporter().exportToCsvAdaptive(function, -2.0, 2.0, 0.1, 1e-4, 1e-3, 1e-6, FILENAME);
+
+        List<String> lines = Files.readAllLines(Paths.get(FILENAME));
+        assertEquals("X,f(X)", lines.get(0));
+        double previous = Double.NEGATIVE_INFINITY;
+        for (String line : lines.subList(1, lines.size())) {
+            double x = Double.parseDouble(line.split(",")[0]);
+            assertTrue(x > previous);
+            previous = x;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.system.SystemFunction;
+import org.example.util.BinaryExporter;
+import org.example.util.BinaryTable;
+import org.example.util.BinaryTableWriter;
+import org.example.util.Grid;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class BinaryTableTest {
+    private static final String FILENAME = "test_results.bin";
+
+    @AfterEach
+    public void cleanup() {
+        new File(FILENAME).delete();
+    }
+
+    @Test
+    public void testHeaderAndValuesRoundTrip() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        new BinaryExporter().exportToBinary(function, -Math.PI, 10.0, 0.1, 1e-6, FILENAME);
+
+        BinaryTable table = BinaryTable.open(FILENAME);
+        Grid grid = new Grid(-Math.PI, 10.0, 0.1);
+        assertEquals(grid.size(), table.size());
+        assertEquals(-Math.PI, table.getStart(), 0.0);
+        assertEquals(0.1, table.getStep(), 0.0);
+        assertEquals(1e-6, table.getPrecision(), 0.0);
+        assertEquals(64 + 8 * grid.size(), new File(FILENAME).length());
+
+        for (long i = 0; i < grid.size(); i++) {
+            double expected = function.calculate(grid.x(i), 1e-6);
+            assertEquals(expected, table.value(i), 0.0);
+            assertEquals(expected, table.nearest(grid.x(i)), 0.0);
+        }
+    }
+
+    @Test
+    public void testValuesAcrossSegments() throws IOException {
+        // Маленькие сегменты: значения попадают в несколько отображений
+        MathFunction identity = (x, precision) -> x;
+        Grid grid = new Grid(0, 999, 1);
+        double[] values = new double[(int) grid.size()];
+        grid.fill(0, values, values.length);
+        try (BinaryTableWriter writer = new BinaryTableWriter(FILENAME, grid, 1e-6, 200)) {
+            writer.write(values, 7);
+            writer.write(new double[0], 0);
+            System.arraycopy(values, 7, values, 0, values.length - 7);
+            writer.write(values, values.length - 7);
+        }
+
+        BinaryTable table = BinaryTable.open(FILENAME, 256);
+        for (long i = 0; i < grid.size(); i++) {
+            assertEquals(identity.calculate(grid.x(i), 1e-6), table.value(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testInterpolation() throws IOException {
+        // Кубическая интерполяция точна для кубического многочлена, линейная — для прямой
+        MathFunction cubic = (x, precision) -> 2 * x * x * x - x * x + 3 * x - 5;
+        new BinaryExporter().exportToBinary(cubic, -2.0, 2.0, 0.25, 1e-6, FILENAME);
+        BinaryTable table = BinaryTable.open(FILENAME);
+
+        for (double x = -2.0; x <= 2.0; x += 0.01) {
+            assertEquals(cubic.calculate(x, 1e-6), table.cubic(x), 1e-9, "x = " + x);
+        }
+
+        MathFunction line = (x, precision) -> 3 * x + 1;
+        new BinaryExporter().exportToBinary(line, 0.0, 1.0, 0.1, 1e-6, FILENAME);
+        table = BinaryTable.open(FILENAME);
+        for (double x = 0.0; x <= 1.0; x += 0.013) {
+            assertEquals(3 * x + 1, table.linear(x), 1e-12, "x = " + x);
+        }
+    }
+
+    @Test
+    public void testOutOfRange() throws IOException {
+        new BinaryExporter().exportToBinary((x, precision) -> x, 0.0, 1.0, 0.5, 1e-6, FILENAME);
+        BinaryTable table = BinaryTable.open(FILENAME);
+
+        assertTrue(Double.isNaN(table.nearest(-0.1)));
+        assertTrue(Double.isNaN(table.linear(1.1)));
+        assertTrue(Double.isNaN(table.cubic(Double.NaN)));
+        assertEquals(1.0, table.linear(1.0), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> table.value(3));
+    }
+
+    @Test
+    public void testRejectsCorruptedFile() throws IOException {
+        new BinaryExporter().exportToBinary((x, precision) -> x, 0.0, 1.0, 0.5, 1e-6, FILENAME);
+        try (RandomAccessFile file = new RandomAccessFile(FILENAME, "rw")) {
+            file.setLength(file.length() - 4);
+        }
+        assertThrows(IOException.class, () -> BinaryTable.open(FILENAME));
+    }
+}
@@ -0,0 +1,93 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.example.functions.base.MathFunction;
+import org.example.functions.logarithmic.Ln;
+import org.example.functions.logarithmic.Log;
+import org.example.functions.system.SystemFunction;
+import org.example.functions.trigonometric.Cos;
+import org.example.functions.trigonometric.Sin;
+import org.example.functions.trigonometric.Tan;
+import org.example.util.ColumnarExporter;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarExporterTest {
+    private static final String FILENAME = "test_columns.csv";
+
+    @AfterEach
+    public void cleanup() {
+        new File(FILENAME).delete();
+    }
+
+    @Test
+    public void testColumnsMatchIndependentFunctions() throws IOException {
+        Map<String, MathFunction> columns = ColumnarExporter.standardColumns(1e-6, 100);
+        new ColumnarExporter().export(columns, -3.0, 3.0, 0.25, 1e-6, FILENAME);
+
+        Sin sin = new Sin(1e-6, 100);
+        Ln ln = new Ln(1e-6, 100);
+        Cos cos = new Cos(sin);
+        Tan tan = new Tan(sin, cos);
+        Log log2 = new Log(ln, 2);
+        SystemFunction system = new SystemFunction(sin, ln);
+
+        List<String> lines = Files.readAllLines(Paths.get(FILENAME));
+        assertEquals("X,sin(X),cos(X),tan(X),cot(X),sec(X),csc(X),ln(X),log_2(X),log_3(X),log_10(X),f(X)",
+                lines.get(0));
+        assertEquals(25, lines.size() - 1);
+
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split(",");
+            assertEquals(12, parts.length);
+            double x = Double.parseDouble(parts[0]);
+            assertEquals(sin.calculate(x, 1e-6), Double.parseDouble(parts[1]), 1e-12);
+            assertEquals(cos.calculate(x, 1e-6), Double.parseDouble(parts[2]), 1e-12);
+            assertEquals(tan.calculate(x, 1e-6), Double.parseDouble(parts[3]), 1e-9);
+            assertEquals(ln.calculate(x, 1e-6), Double.parseDouble(parts[7]), 1e-12);
+            assertEquals(log2.calculate(x, 1e-6), Double.parseDouble(parts[8]), 1e-12);
+            assertEquals(system.calculate(x, 1e-6), Double.parseDouble(parts[11]), 1e-6);
+        }
+    }
+
+    @Test
+    public void testSharedPrimitivesEvaluatedOncePerRow() throws IOException {
+        CountingSin sin = new CountingSin();
+        CountingLn ln = new CountingLn();
+        Map<String, MathFunction> columns = ColumnarExporter.standardColumns(sin, ln);
+        int lnCallsFromConstructors = ln.calls;
+
+        new ColumnarExporter().export(columns, 0.5, 2.5, 0.5, 1e-6, FILENAME);
+
+        // на строку: sin(x) и sin(x + π/2) для тригонометрии и один ln(x) для логарифмов и системы
+        assertEquals(2 * 5, sin.calls);
+        assertEquals(5, ln.calls - lnCallsFromConstructors);
+    }
+
+    private static class CountingSin extends Sin {
+        int calls;
+
+        @Override
+        protected double evaluate(double x, double precision) {
+            calls++;
+            return super.evaluate(x, precision);
+        }
+    }
+
+    private static class CountingLn extends Ln {
+        int calls;
+
+        @Override
+        protected double evaluate(double x, double precision) {
+            calls++;
+            return super.evaluate(x, precision);
+        }
+    }
+}
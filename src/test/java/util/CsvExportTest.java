@@ -4,19 +4,37 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.example.functions.base.MathFunction;
+import org.example.functions.system.GridEvaluator;
 import org.example.functions.system.SystemFunction;
 import org.example.util.CsvExporter;
+import org.example.util.ExportCheckpoint;
+import org.example.util.Grid;
 import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class CsvExportTest {
     private static final String FILENAME = "test_results.csv";
+    private static final String PARALLEL_FILENAME = "test_results_parallel.csv";
 
     @AfterEach
     public void cleanup() {
         new File(FILENAME).delete();
+        new File(PARALLEL_FILENAME).delete();
+        new File(CsvExporter.checkpointPath(FILENAME).toString()).delete();
     }
 
     @Test
@@ -36,4 +54,162 @@ public class CsvExportTest {
         String content = Files.readString(Paths.get(FILENAME));
         assertTrue(content.contains("0.5,"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testGridDoesNotDrift() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.exportToCsv(function, 0.1, 10.0, 0.1, 1e-6, FILENAME);
+
+        List<String> lines = Files.readAllLines(Paths.get(FILENAME));
+        // Заголовок и 100 узлов; последний узел ровно 10.0
+        assertEquals(101, lines.size());
+        assertTrue(lines.get(100).startsWith("10.0,"));
+    }
+
+    @Test
+    public void testGridSize() {
+        assertEquals(100, new Grid(0.1, 10.0, 0.1).size());
+        assertEquals(31, new Grid(-Math.PI, -0.1, 0.1).size());
+        assertEquals(1, new Grid(0.5, 0.5, 0.1).size());
+        assertEquals(0, new Grid(1.0, 0.0, 0.1).size());
+        assertThrows(IllegalArgumentException.class, () -> new Grid(0.0, 1.0, 0.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8})
+    public void testParallelExportMatchesSequential(int threads) throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.exportToCsv(function, -20.0, 20.0, 0.001, 1e-6, FILENAME);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            exporter.exportToCsvParallel(function, -20.0, 20.0, 0.001, 1e-6, PARALLEL_FILENAME, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(Files.readAllBytes(Paths.get(FILENAME)), Files.readAllBytes(Paths.get(PARALLEL_FILENAME)));
+    }
+
+    @Test
+    public void testParallelExportCancelsPendingChunksOnFailure() {
+        AtomicInteger evaluatedChunks = new AtomicInteger();
+        MathFunction failing = new MathFunction() {
+            @Override
+            public double calculate(double x, double precision) {
+                return x;
+            }
+
+            @Override
+            public void calculate(double[] xs, int from, int to, double precision, double[] out) {
+                evaluatedChunks.incrementAndGet();
+                throw new IllegalStateException("сбой вычисления");
+            }
+        };
+
+        // Первый кусок выполняется сразу и падает, остальные ждут в очереди, пока их не запустят вручную
+        List<Runnable> queued = new ArrayList<>();
+        Executor executor = task -> {
+            if (evaluatedChunks.get() == 0 && queued.isEmpty()) {
+                task.run();
+            } else {
+                queued.add(task);
+            }
+        };
+
+        CsvExporter exporter = new CsvExporter();
+        assertThrows(IllegalStateException.class,
+                () -> exporter.exportToCsvParallel(failing, 0.0, 100.0, 0.001, 1e-6, PARALLEL_FILENAME, executor));
+
+        assertTrue(queued.size() > 0);
+        queued.forEach(Runnable::run);
+        assertEquals(1, evaluatedChunks.get());
+    }
+
+    @Test
+    public void testResumableExportMatchesSequential() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.setCheckpointInterval(100);
+
+        exporter.exportToCsv(function, -Math.PI, 10.0, 0.01, 1e-6, PARALLEL_FILENAME);
+        exporter.exportToCsvResumable(function, -Math.PI, 10.0, 0.01, 1e-6, FILENAME);
+
+        assertArrayEquals(Files.readAllBytes(Paths.get(PARALLEL_FILENAME)), Files.readAllBytes(Paths.get(FILENAME)));
+        assertTrue(Files.notExists(CsvExporter.checkpointPath(FILENAME)));
+    }
+
+    @Test
+    public void testResumeAfterFailure() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.setCheckpointInterval(100);
+        exporter.exportToCsv(function, -Math.PI, 50.0, 0.01, 1e-6, PARALLEL_FILENAME);
+
+        // Вычислитель "падает" на середине диапазона
+        AtomicInteger calls = new AtomicInteger();
+        MathFunction failing = (x, precision) -> {
+            if (calls.incrementAndGet() > 2500) {
+                throw new IllegalStateException("сбой");
+            }
+            return function.calculate(x, precision);
+        };
+        assertThrows(IllegalStateException.class,
+                () -> exporter.exportToCsvResumable(failing, -Math.PI, 50.0, 0.01, 1e-6, FILENAME));
+        assertTrue(Files.exists(CsvExporter.checkpointPath(FILENAME)));
+
+        // Недописанная строка в конце файла
+        Files.write(Paths.get(FILENAME), "3.0,1.2".getBytes(), StandardOpenOption.APPEND);
+
+        AtomicInteger resumedCalls = new AtomicInteger();
+        MathFunction counting = (x, precision) -> {
+            resumedCalls.incrementAndGet();
+            return function.calculate(x, precision);
+        };
+        exporter.exportToCsvResumable(counting, -Math.PI, 50.0, 0.01, 1e-6, FILENAME);
+
+        assertArrayEquals(Files.readAllBytes(Paths.get(PARALLEL_FILENAME)), Files.readAllBytes(Paths.get(FILENAME)));
+        assertTrue(resumedCalls.get() < new Grid(-Math.PI, 50.0, 0.01).size());
+        assertTrue(Files.notExists(CsvExporter.checkpointPath(FILENAME)));
+    }
+
+    @Test
+    public void testResumeWithForeignCheckpointStartsOver() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.setCheckpointInterval(100);
+        exporter.exportToCsv(function, -1.0, 1.0, 0.01, 1e-6, PARALLEL_FILENAME);
+
+        // Точка от другого задания и файл, который ей не соответствует
+        Files.write(Paths.get(FILENAME), "garbage".getBytes());
+        new ExportCheckpoint(-1.0, 1.0, 0.01, 1e-6, ",", 50, 1000)
+                .write(CsvExporter.checkpointPath(FILENAME));
+
+        exporter.exportToCsvResumable(function, -1.0, 1.0, 0.01, 1e-6, FILENAME);
+        assertArrayEquals(Files.readAllBytes(Paths.get(PARALLEL_FILENAME)), Files.readAllBytes(Paths.get(FILENAME)));
+    }
+
+    @Test
+    public void testIncrementalExportMatchesRegularExport() throws IOException {
+        SystemFunction function = new SystemFunction(1e-6, 100);
+        CsvExporter exporter = new CsvExporter();
+        exporter.exportToCsv(function, -5.0, 3.0, 0.01, 1e-9, FILENAME);
+        exporter.exportToCsvIncremental(GridEvaluator.of(function), -5.0, 3.0, 0.01, 1e-9, PARALLEL_FILENAME);
+
+        List<String> expected = Files.readAllLines(Paths.get(FILENAME));
+        List<String> actual = Files.readAllLines(Paths.get(PARALLEL_FILENAME));
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.get(0), actual.get(0));
+        for (int i = 1; i < expected.size(); i++) {
+            String[] expectedRow = expected.get(i).split(",");
+            String[] actualRow = actual.get(i).split(",");
+            assertEquals(expectedRow[0], actualRow[0]);
+            double y = Double.parseDouble(expectedRow[1]);
+            if (Math.abs(y) < 1e3) {
+                assertEquals(y, Double.parseDouble(actualRow[1]), 1e-4 * Math.max(1, Math.abs(y)));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package util;
+
+import java.util.Random;
+
+import org.example.util.DoubleFormatter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class DoubleFormatterTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.0, -1.0, 0.1, 0.30000000000000004, 100.0, 1e7, 9999999.0, 0.001, 9.9e-4,
+            123456.789, -1.5e-300, 4.9e-324, 2.2250738585072014E-308, Double.MAX_VALUE, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -3.141592653589793, 1.0E-5})
+    void testMatchesDoubleToString(double v) {
+        assertEquals(Double.toString(v), DoubleFormatter.toString(v));
+    }
+
+    @Test
+    void testShortestRepresentation() {
+        // Double.toString до JDK 19 выдает здесь лишние цифры
+        assertEquals("1.0E23", DoubleFormatter.toString(1e23));
+    }
+
+    @Test
+    void testRoundTripOnRandomBits() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            double v = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(v)) {
+                continue;
+            }
+
+            String formatted = DoubleFormatter.toString(v);
+            assertEquals(Double.doubleToRawLongBits(v), Double.doubleToRawLongBits(Double.parseDouble(formatted)),
+                    formatted);
+            assertTrue(formatted.length() <= Double.toString(v).length(), formatted);
+        }
+    }
+
+    @Test
+    void testWritesAtOffset() {
+        byte[] buf = new byte[4 + DoubleFormatter.MAX_LENGTH];
+        int end = DoubleFormatter.format(-0.5, buf, 4);
+        assertEquals("-0.5", new String(buf, 4, end - 4));
+    }
+}